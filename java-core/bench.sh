@@ -0,0 +1,13 @@
+#!/usr/bin/env sh
+# Empacota src/ + bench/ com Maven (JDK 21+) e executa os benchmarks JMH de target/benchmarks.jar.
+# Qualquer opcao do JMH vale  ./bench.sh -h lista todas
+# Exemplos
+#   ./bench.sh -l
+#   ./bench.sh -prof gc -rf json -rff out/wrappers.json WrappersBench
+#   ./bench.sh -f 1 -wi 1 -i 2 -r 200ms ObjetoVsPrimitivo     (rodada rapida)
+#   for t in 1 4 8; do ./bench.sh -t $t IndiceDePlacarBench.atualizar; done     (varredura de threads)
+set -e
+cd "$(dirname "$0")"
+mvn -B -q package
+mkdir -p out
+exec java -jar target/benchmarks.jar "$@"
@@ -0,0 +1,73 @@
+package classesemetodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ConsolidadorDePedidosBench.java
+ *
+ * Escalabilidade do ConsolidadorDePedidos de 1 a N nucleos  pedidos por segundo.
+ * Compare o placar de cada 'paralelismo' com o de paralelismo=1 para obter o speedup.
+ *
+ * ./bench.sh -p paralelismo=1,2,4,8,16 ConsolidadorDePedidosBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConsolidadorDePedidosBench {
+
+    static final int PEDIDOS = 500_000;
+    static final String[] CATEGORIAS = {"Bronze", "Silver", "Gold", "Platinum"};
+
+    // 0 = availableProcessors
+    @Param({"1", "2", "4", "0"})
+    int paralelismo;
+
+    private List<ClassesVsObjetosResumo.Pedido> pedidos;
+    private List<PedidoColunar> colunares;
+    private ConsolidadorDePedidos consolidador;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(8);
+        ClassesVsObjetosResumo.Cliente[] clientes = new ClassesVsObjetosResumo.Cliente[CATEGORIAS.length];
+        for (int c = 0; c < clientes.length; c++) clientes[c] = new ClassesVsObjetosResumo.Cliente("cliente" + c, 30, CATEGORIAS[c]);
+
+        pedidos = new ArrayList<>(PEDIDOS);
+        colunares = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            ClassesVsObjetosResumo.Cliente cliente = clientes[rnd.nextInt(clientes.length)];
+            ClassesVsObjetosResumo.Pedido p = new ClassesVsObjetosResumo.Pedido(cliente);
+            int itens = rnd.nextInt(1, 6);
+            for (int k = 0; k < itens; k++) p.adicionarItem(new ClassesVsObjetosResumo.Item("item", rnd.nextLong(1, 500_00), rnd.nextInt(1, 5)));
+            pedidos.add(p);
+            colunares.add(PedidoColunar.de(p));
+        }
+        consolidador = new ConsolidadorDePedidos(paralelismo == 0 ? Runtime.getRuntime().availableProcessors() : paralelismo);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PEDIDOS)
+    public Object objetos() {
+        return consolidador.consolidarPedidos(pedidos);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PEDIDOS)
+    public Object colunares() {
+        return consolidador.consolidarColunares(colunares);
+    }
+
+}
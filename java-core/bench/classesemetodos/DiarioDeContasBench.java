@@ -0,0 +1,78 @@
+package classesemetodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * DiarioDeContasBench.java
+ *
+ * Anexar no DiarioDeContas com commit em grupo de tamanhos diferentes
+ * - lote=1     force a cada registro  limite eh a latencia do disco
+ * - lote=4096  force raro  limite eh a escrita no mapa
+ * Cada iteracao comeca num diretorio vazio  @Setup/@TearDown(Level.Iteration) abrem  fecham e apagam fora da medicao
+ * a troca de segmento a cada SEGMENTO registros eh do proprio diario e fica no placar  como em producao
+ *
+ * ./bench.sh DiarioDeContasBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DiarioDeContasBench {
+
+    static final int SEGMENTO = 1 << 20;
+
+    @Param({"1", "16", "256", "4096"})
+    int lote;
+
+    private Path dir;
+    private DiarioDeContas diario;
+    private String[] numeros;
+    private int i;
+
+    @Setup
+    public void preparar() {
+        numeros = new String[1024];
+        for (int k = 0; k < numeros.length; k++) numeros[k] = "c" + k;
+    }
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+        dir = Files.createTempDirectory("diario-bench");
+        diario = DiarioDeContas.abrir(dir, SEGMENTO, lote);
+    }
+
+    @Benchmark
+    public long anexar() {
+        return diario.registrarDeposito(numeros[i++ & 1023], 1_00);
+    }
+
+    @TearDown(Level.Iteration)
+    public void encerrar() {
+        diario.close();
+        apagar(dir);
+    }
+
+    static void apagar(Path dir) {
+        try (Stream<Path> s = Files.walk(dir)) {
+            s.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            // diretorio temporario  nada a fazer
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package classesemetodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * DinheiroBench.java
+ *
+ * Operacoes em lote sobre muitas quantias  List<Dinheiro> com um objeto por valor
+ * x VetorDeDinheiro sequencial e paralelo.  Placar em quantias processadas por segundo.
+ *
+ * ./bench.sh -prof gc DinheiroBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DinheiroBench {
+
+    static final int N = 1_000_000;
+
+    private List<Dinheiro> objetos;
+    private VetorDeDinheiro sequencial;
+    private VetorDeDinheiro paralelo;
+    private VetorDeDinheiro destino;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(11);
+        long[] valores = new long[N];
+        objetos = new ArrayList<>(N);
+        for (int i = 0; i < N; i++) {
+            valores[i] = rnd.nextLong(1_000_000);
+            objetos.add(Dinheiro.deCentavos(valores[i]));
+        }
+        sequencial = VetorDeDinheiro.deCentavos(valores);
+        paralelo = VetorDeDinheiro.deCentavos(valores.clone()).usarParaleloAPartirDe(1);
+        destino = new VetorDeDinheiro(N);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public Dinheiro somaObjetos() {
+        Dinheiro total = Dinheiro.ZERO;
+        for (Dinheiro d : objetos) total = total.somar(d);
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long somaVetor() {
+        return sequencial.soma();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long somaVetorParalelo() {
+        return paralelo.soma();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long impostoObjetos() {
+        long acc = 0;
+        for (Dinheiro d : objetos) acc += d.percentual(1_575, RoundingMode.HALF_UP).centavos();
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public VetorDeDinheiro impostoVetor() {
+        return sequencial.percentualPara(destino, 1_575, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public VetorDeDinheiro impostoVetorParalelo() {
+        return paralelo.percentualPara(destino, 1_575, RoundingMode.HALF_UP);
+    }
+
+}
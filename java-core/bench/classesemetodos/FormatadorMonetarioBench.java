@@ -0,0 +1,104 @@
+package classesemetodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * FormatadorMonetarioBench.java
+ *
+ * Renderizacao de valores de fatura  toString antigo com String.format
+ * x NumberFormat.getCurrencyInstance reaproveitado x FormatadorMonetario em cada destino.
+ *
+ * ./bench.sh -prof gc FormatadorMonetarioBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FormatadorMonetarioBench {
+
+    static final int LOTE = 1_024;
+
+    private long[] valores;
+    private NumberFormat moedaBr;
+    private final StringBuilder linha = new StringBuilder(64);
+    private final char[] chars = new char[64];
+    private final byte[] bytes = new byte[64];
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        valores = new long[LOTE];
+        for (int i = 0; i < LOTE; i++) valores[i] = rnd.nextLong(100_000_000L);
+        moedaBr = NumberFormat.getCurrencyInstance(Locale.of("pt", "BR"));
+    }
+
+    // como Dinheiro.toString era antes do FormatadorMonetario
+    static String toStringAntigo(long centavos) {
+        long reais = centavos / 100;
+        long cents = Math.abs(centavos % 100);
+        return "R$ " + reais + "," + String.format("%02d", cents);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int toStringComFormat() {
+        int n = 0;
+        for (long v : valores) n += toStringAntigo(v).length();
+        return n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int numberFormatMoeda() {
+        int n = 0;
+        for (long v : valores) n += moedaBr.format(v / 100.0).length();
+        return n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int formatadorString() {
+        int n = 0;
+        for (long v : valores) n += FormatadorMonetario.formatar(v, FormatadorMonetario.Layout.PT_BR).length();
+        return n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int formatadorStringBuilder() {
+        int n = 0;
+        for (long v : valores) {
+            linha.setLength(0);
+            n += FormatadorMonetario.formatar(v, FormatadorMonetario.Layout.PT_BR, linha).length();
+        }
+        return n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int formatadorChars() {
+        int n = 0;
+        for (long v : valores) n += FormatadorMonetario.formatar(v, FormatadorMonetario.Layout.PT_BR, chars, 0);
+        return n + chars[3];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public int formatadorBytes() {
+        int n = 0;
+        for (long v : valores) n += FormatadorMonetario.formatar(v, FormatadorMonetario.Layout.EN_US, bytes, 0);
+        return n + bytes[2];
+    }
+
+}
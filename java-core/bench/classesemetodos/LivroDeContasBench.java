@@ -0,0 +1,73 @@
+package classesemetodos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LivroDeContasBench.java
+ *
+ * Disputa no LivroDeContas de 1 a 64 threads
+ * - contas=4       conjunto quente  quase toda operacao colide com outra thread
+ * - contas=100000  conjunto frio    colisoes raras  mede o custo base do CAS e das travas
+ *
+ * @Threads(64) por padrao  a curva inteira sai de uma rodada por contagem de threads
+ * ./bench.sh LivroDeContasBench
+ * for t in 1 2 4 8 16 32 64; do ./bench.sh -t $t LivroDeContasBench; done
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LivroDeContasBench {
+
+    @Param({"4", "100000"})
+    int contas;
+
+    private LivroDeContas livro;
+    private String[] numeros;
+
+    @Setup
+    public void preparar() {
+        livro = new LivroDeContas();
+        numeros = new String[contas];
+        for (int i = 0; i < contas; i++) {
+            numeros[i] = "c" + i;
+            livro.abrir(numeros[i], 1_000_000_000_00L);
+        }
+    }
+
+    private String sortear() {
+        return numeros[ThreadLocalRandom.current().nextInt(contas)];
+    }
+
+    // deposito seguido de saque na mesma conta  saldo estavel entre iteracoes
+    @Benchmark
+    @OperationsPerInvocation(2)
+    @Threads(64)
+    public void depositoESaque() {
+        LivroDeContas.ContaAtomica c = livro.conta(sortear());
+        c.deposito(1_00);
+        c.saque(1_00);
+    }
+
+    // par de contas distintas  sorteio sem alocacao
+    @Benchmark
+    @Threads(64)
+    public void transferencia() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int de = rnd.nextInt(contas);
+        int para = (de + 1 + rnd.nextInt(contas - 1)) % contas;
+        livro.transferir(numeros[de], numeros[para], 1);
+    }
+
+}
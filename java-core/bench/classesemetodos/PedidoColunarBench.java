@@ -0,0 +1,81 @@
+package classesemetodos;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/**
+ * PedidoColunarBench.java
+ *
+ * Total de um pedido grande  Pedido com List<Item> x PedidoColunar com arrays paralelos
+ * no caminho sem checagem e no caminho exato.  Placar em linhas por segundo no resultado :elementos.
+ *
+ * ./bench.sh PedidoColunarBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PedidoColunarBench {
+
+    @Param({"10000", "100000"})
+    int linhas;
+
+    private ClassesVsObjetosResumo.Pedido objetos;
+    private PedidoColunar colunar;
+    private long[] precos;
+    private int[] qtds;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(3);
+        ClassesVsObjetosResumo.Cliente cliente = new ClassesVsObjetosResumo.Cliente("Fabi", 33, "Gold");
+        objetos = new ClassesVsObjetosResumo.Pedido(cliente);
+        colunar = new PedidoColunar(cliente, linhas);
+        precos = new long[linhas];
+        qtds = new int[linhas];
+        for (int i = 0; i < linhas; i++) {
+            long preco = rnd.nextLong(1, 500_00);
+            int qtd = rnd.nextInt(1, 20);
+            objetos.adicionarItem(new ClassesVsObjetosResumo.Item("item" + i, preco, qtd));
+            colunar.adicionarItem("item" + i, preco, qtd);
+            precos[i] = preco;
+            qtds[i] = qtd;
+        }
+    }
+
+    @Benchmark
+    public long totalObjetos(Contagem contagem) {
+        contagem.elementos += linhas;
+        return objetos.totalCentavos();
+    }
+
+    @Benchmark
+    public long totalColunar(Contagem contagem) {
+        contagem.elementos += linhas;
+        return colunar.totalCentavos();
+    }
+
+    @Benchmark
+    public long totalColunarExato(Contagem contagem) {
+        contagem.elementos += linhas;
+        return PedidoColunar.somaExata(precos, qtds, linhas);
+    }
+
+    @Benchmark
+    public long reajusteColunar(Contagem contagem) {
+        contagem.elementos += linhas;
+        colunar.reajustar(10_000, RoundingMode.HALF_UP);
+        return colunar.precoCentavos(0);
+    }
+
+}
@@ -0,0 +1,64 @@
+package classesemetodos;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ReproducaoDiarioBench.java
+ *
+ * Reproducao de um DiarioDeContas com 'registros' operacoes sobre 10 mil contas.  Placar em registros por segundo no resultado :elementos.
+ * O padrao cabe num teste rapido  para a medida de 100 milhoes (4 GB em disco)
+ *
+ * ./bench.sh -p registros=100000000 ReproducaoDiarioBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReproducaoDiarioBench {
+
+    @Param({"1000000"})
+    int registros;
+
+    private Path dir;
+
+    @Setup
+    public void preparar() throws IOException {
+        dir = Files.createTempDirectory("diario-bench");
+        String[] numeros = new String[10_000];
+        try (DiarioDeContas d = DiarioDeContas.abrir(dir, DiarioDeContasBench.SEGMENTO, Integer.MAX_VALUE)) {
+            for (int k = 0; k < numeros.length; k++) {
+                numeros[k] = "c" + k;
+                d.registrarAbertura(numeros[k], 1_000_00);
+            }
+            for (int k = numeros.length; k < registros; k++) {
+                if ((k & 1) == 0) d.registrarDeposito(numeros[k % numeros.length], 2_00);
+                else d.registrarSaque(numeros[k % numeros.length], 1_00);
+            }
+        }
+    }
+
+    @TearDown
+    public void encerrar() {
+        DiarioDeContasBench.apagar(dir);
+    }
+
+    @Benchmark
+    public long reproduzir(Contagem contagem) throws IOException {
+        contagem.elementos += registros;
+        return DiarioDeContas.reproduzir(dir, (numero, saldo) -> { });
+    }
+
+}
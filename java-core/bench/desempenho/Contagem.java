@@ -0,0 +1,33 @@
+package desempenho;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Contagem.java
+ *
+ * Placar por elemento para benchmarks cujo lote depende de um @Param (tamanho  linhas  bytes ...).
+ * @OperationsPerInvocation so aceita constante  o metodo recebe uma Contagem e soma o lote a cada chamada
+ * o JMH divide pelo tempo e imprime o placar secundario 'Classe.metodo:elementos' em elementos/s
+ *
+ *   @Benchmark
+ *   public int contar(Contagem contagem) {
+ *       contagem.elementos += tamanho;
+ *       return ...;
+ *   }
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Contagem {
+
+    public long elementos;
+
+    @Setup(Level.Iteration)
+    public void zerar() {
+        elementos = 0;
+    }
+
+}
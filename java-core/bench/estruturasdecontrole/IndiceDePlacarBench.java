@@ -0,0 +1,71 @@
+package estruturasdecontrole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IndiceDePlacarBench.java
+ *
+ * "Primeiro a atingir o alvo" e "topo 10" com 'jogadores' pontuacoes em 0..1000000
+ * - primeiraVarredura  Placar.primeiraComValorAoMenos  laco em ordem de insercao
+ * - primeiraIndice     descida na arvore de segmentos
+ * - atualizar          troca de pontos de um jogador sorteado  de 1 a 8 threads
+ * Alvos sorteados na faixa alta  a varredura precisa andar bastante antes de achar.
+ *
+ * ./bench.sh IndiceDePlacarBench
+ * for t in 1 4 8; do ./bench.sh -t $t IndiceDePlacarBench.atualizar; done
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndiceDePlacarBench {
+
+    @Param({"1000", "1000000"})
+    int jogadores;
+
+    private String[] nomes;
+    private Placar placar;
+    private IndiceDePlacar indice;
+
+    @Setup
+    public void preparar() {
+        nomes = new String[jogadores];
+        placar = new Placar(jogadores);
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int k = 0; k < jogadores; k++) {
+            nomes[k] = "jogador-" + k;
+            placar.colocar(nomes[k], rnd.nextInt(1_000_001));
+        }
+        indice = IndiceDePlacar.de(placar, jogadores);
+    }
+
+    private static int alvo() { return 999_000 + ThreadLocalRandom.current().nextInt(1_000); }
+
+    @Benchmark
+    public String primeiraVarredura() { return placar.primeiraComValorAoMenos(alvo()); }
+
+    @Benchmark
+    public String primeiraIndice() { return indice.primeiraComValorAoMenos(alvo()); }
+
+    @Benchmark
+    public List<IndiceDePlacar.Entrada> topo10() { return indice.topo(10); }
+
+    @Benchmark
+    @Threads(8)
+    public void atualizar() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        indice.atualizar(nomes[rnd.nextInt(jogadores)], rnd.nextInt(1_000_001));
+    }
+
+}
@@ -0,0 +1,85 @@
+package estruturasdecontrole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+
+/**
+ * MatrizDeInteirosBench.java
+ *
+ * Busca de um valor presente numa matriz lado x lado com valores impares crescentes  como os exemplos 1..17
+ * - rotulada   int[][] com break busca  o laco de ForResumo
+ * - linear     mesma varredura no int[] plano
+ * - binaria    aproveita a ordem
+ * - indexada   indice montado no @Setup  fora da medicao
+ * - paralela   blocos no commonPool  so faz sentido com varios nucleos e lado grande
+ *
+ * ./bench.sh MatrizDeInteirosBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatrizDeInteirosBench {
+
+    @Param({"100", "2000"})
+    int lado;
+
+    private int[][] irregular;
+    private int[] plana;
+    private MatrizDeInteiros indexada;
+    private final int[] alvos = new int[1024];
+    private int i;
+
+    @Setup
+    public void preparar() {
+        irregular = new int[lado][lado];
+        for (int l = 0; l < lado; l++) {
+            for (int c = 0; c < lado; c++) irregular[l][c] = 2 * (l * lado + c) + 1;
+        }
+        indexada = MatrizDeInteiros.de(irregular).indexar();
+        plana = new int[lado * lado];
+        for (int l = 0; l < lado; l++) System.arraycopy(irregular[l], 0, plana, l * lado, lado);
+        SplittableRandom rnd = new SplittableRandom(11);
+        for (int k = 0; k < alvos.length; k++) alvos[k] = 2 * rnd.nextInt(lado * lado) + 1;
+    }
+
+    private int proximo() { return alvos[i++ & 1023]; }
+
+    @Benchmark
+    public int rotulada() {
+        int alvo = proximo();
+        int[][] m = irregular;
+        int achado = -1;
+        busca:
+        for (int l = 0; l < m.length; l++) {
+            for (int c = 0; c < m[l].length; c++) {
+                if (m[l][c] == alvo) {
+                    achado = l * lado + c;
+                    break busca;
+                }
+            }
+        }
+        return achado;
+    }
+
+    @Benchmark
+    public int linear() { return MatrizDeInteiros.buscarLinear(plana, 0, plana.length, proximo()); }
+
+    @Benchmark
+    public int binaria() { return MatrizDeInteiros.buscarBinaria(plana, proximo()); }
+
+    @Benchmark
+    public int indexada() { return indexada.buscar(proximo()); }
+
+    @Benchmark
+    public int paralela() { return MatrizDeInteiros.buscarParalela(plana, proximo()); }
+
+}
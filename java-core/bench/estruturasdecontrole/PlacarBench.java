@@ -0,0 +1,129 @@
+package estruturasdecontrole;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * PlacarBench.java
+ *
+ * Placar x LinkedHashMap<String, Integer> com 'jogadores' chaves e pontos acima do cache de Integer.
+ * - montar*    insere todos os jogadores num mapa ja dimensionado  com -prof gc o B/op aproxima a pegada por jogador
+ *              as Strings sao criadas no @Setup e nao entram na conta
+ * - obter  somar  consulta e incremento de um jogador sorteado
+ * - percorrer  soma de todos os pontos  placar em jogadores por segundo no resultado :elementos
+ * - primeira   primeiro jogador com pontos >= alvo  o alvo so eh atingido no fim da ordem de insercao
+ *
+ * ./bench.sh -prof gc PlacarBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PlacarBench {
+
+    @Param({"1000", "1000000"})
+    int jogadores;
+
+    private String[] nomes;
+    private final int[] sorteados = new int[4096];
+    private int i;
+    private Placar placar;
+    private LinkedHashMap<String, Integer> mapa;
+
+    @Setup
+    public void preparar() {
+        nomes = new String[jogadores];
+        placar = new Placar(jogadores);
+        mapa = new LinkedHashMap<>(capacidadeDoMapa());
+        for (int k = 0; k < jogadores; k++) {
+            nomes[k] = "jogador-" + k;
+            placar.colocar(nomes[k], 1_000 + k % 1_000);
+            mapa.put(nomes[k], 1_000 + k % 1_000);
+        }
+        placar.colocar(nomes[jogadores - 1], 1_000_000);
+        mapa.put(nomes[jogadores - 1], 1_000_000);
+        SplittableRandom rnd = new SplittableRandom(13);
+        for (int k = 0; k < sorteados.length; k++) sorteados[k] = rnd.nextInt(jogadores);
+    }
+
+    private int capacidadeDoMapa() { return (int) (jogadores / 0.75f) + 1; }
+
+    private String sortear() { return nomes[sorteados[i++ & 4095]]; }
+
+    @Benchmark
+    public Placar montarPlacar(Contagem contagem) {
+        contagem.elementos += jogadores;
+        Placar p = new Placar(jogadores);
+        for (int k = 0; k < jogadores; k++) p.colocar(nomes[k], 1_000 + k);
+        return p;
+    }
+
+    @Benchmark
+    public Map<String, Integer> montarLinkedHashMap(Contagem contagem) {
+        contagem.elementos += jogadores;
+        Map<String, Integer> m = new LinkedHashMap<>(capacidadeDoMapa());
+        for (int k = 0; k < jogadores; k++) m.put(nomes[k], 1_000 + k);
+        return m;
+    }
+
+    @Benchmark
+    public int obterPlacar() { return placar.obter(sortear(), 0); }
+
+    @Benchmark
+    public int obterLinkedHashMap() { return mapa.getOrDefault(sortear(), 0); }
+
+    // +1 e -1 alternados  pontos nao derivam entre iteracoes
+    @Benchmark
+    public int somarPlacar() { return placar.somar(sortear(), (i & 1) == 0 ? 1 : -1); }
+
+    @Benchmark
+    public int somarLinkedHashMap() { return mapa.merge(sortear(), (i & 1) == 0 ? 1 : -1, Integer::sum); }
+
+    @Benchmark
+    public long percorrerPlacar(Contagem contagem) {
+        contagem.elementos += jogadores;
+        return placar.soma();
+    }
+
+    @Benchmark
+    public long percorrerLinkedHashMap(Contagem contagem) {
+        contagem.elementos += jogadores;
+        long s = 0;
+        for (Map.Entry<String, Integer> e : mapa.entrySet()) s += e.getValue();
+        return s;
+    }
+
+    @Benchmark
+    public void paraCadaPlacar(Contagem contagem, Blackhole bh) {
+        contagem.elementos += jogadores;
+        placar.paraCada((k, v) -> bh.consume(v));
+    }
+
+    @Benchmark
+    public String primeiraPlacar(Contagem contagem) {
+        contagem.elementos += jogadores;
+        return placar.primeiraComValorAoMenos(1_000_000);
+    }
+
+    @Benchmark
+    public String primeiraLinkedHashMap(Contagem contagem) {
+        contagem.elementos += jogadores;
+        for (Map.Entry<String, Integer> e : mapa.entrySet()) {
+            if (e.getValue() >= 1_000_000) return e.getKey();
+        }
+        return null;
+    }
+
+}
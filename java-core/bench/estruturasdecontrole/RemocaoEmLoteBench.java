@@ -0,0 +1,111 @@
+package estruturasdecontrole;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * RemocaoEmLoteBench.java
+ *
+ * Remocao de um terco dos elementos  placar em elementos/s no resultado :elementos  cada chamada restaura a entrada com
+ * um arraycopy antes de filtrar  custo igual para todos os metodos
+ * - lote          RemocaoEmLote sequencial no int[]
+ * - loteParalelo  marcacao em blocos no commonPool  so faz sentido com varios nucleos
+ * - fluxo         IntStream.filter(..).toArray()  aloca o resultado
+ * - iterador      it.remove() num ArrayList<Integer>  o padrao de WhileResumo  quadratico
+ * - removeIf      ArrayList.removeIf  mesma ideia do lote sobre referencias
+ *
+ * iterador e removeIf usam no maximo LISTA_MAXIMA elementos  acima disso o iterador leva minutos
+ * o placar deles conta os elementos da lista  nao 'tamanho'
+ * 10^8 ocupa 400 MB por int[]  use -jvmArgs "-Xmx3g"
+ *
+ * ./bench.sh RemocaoEmLoteBench
+ * ./bench.sh -p tamanho=1000,100000 RemocaoEmLoteBench.iterador
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RemocaoEmLoteBench {
+
+    static final int LISTA_MAXIMA = 100_000;
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int tamanho;
+
+    private int[] original;
+    private int[] trabalho;
+    private int tamanhoDaLista;
+    private List<Integer> listaOriginal;
+    private List<Integer> lista;
+
+    @Setup
+    public void preparar() {
+        original = new SplittableRandom(3).ints(tamanho, 0, 3_000).toArray();
+        trabalho = new int[tamanho];
+        tamanhoDaLista = Math.min(tamanho, LISTA_MAXIMA);
+        listaOriginal = new ArrayList<>(tamanhoDaLista);
+        for (int i = 0; i < tamanhoDaLista; i++) listaOriginal.add(original[i]);
+        lista = new ArrayList<>(tamanhoDaLista);
+    }
+
+    private static boolean sai(int v) { return v % 3 == 0; }
+
+    @Benchmark
+    public int lote(Contagem contagem) {
+        contagem.elementos += tamanho;
+        System.arraycopy(original, 0, trabalho, 0, tamanho);
+        return RemocaoEmLote.removerSe(trabalho, tamanho, RemocaoEmLoteBench::sai);
+    }
+
+    @Benchmark
+    public int loteParalelo(Contagem contagem) {
+        contagem.elementos += tamanho;
+        System.arraycopy(original, 0, trabalho, 0, tamanho);
+        return RemocaoEmLote.removerSe(trabalho, tamanho, RemocaoEmLoteBench::sai, 0);
+    }
+
+    @Benchmark
+    public int fluxo(Contagem contagem) {
+        contagem.elementos += tamanho;
+        System.arraycopy(original, 0, trabalho, 0, tamanho);
+        return IntStream.of(trabalho).filter(v -> !sai(v)).toArray().length;
+    }
+
+    @Benchmark
+    public int iterador(Contagem contagem) {
+        contagem.elementos += tamanhoDaLista;
+        restaurarLista();
+        Iterator<Integer> it = lista.iterator();
+        while (it.hasNext()) {
+            if (sai(it.next())) it.remove();
+        }
+        return lista.size();
+    }
+
+    @Benchmark
+    public int removeIf(Contagem contagem) {
+        contagem.elementos += tamanhoDaLista;
+        restaurarLista();
+        lista.removeIf(v -> sai(v));
+        return lista.size();
+    }
+
+    private void restaurarLista() {
+        lista.clear();
+        lista.addAll(listaOriginal);
+    }
+
+}
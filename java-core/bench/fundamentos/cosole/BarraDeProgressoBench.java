@@ -0,0 +1,66 @@
+package fundamentos.cosole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BarraDeProgressoBench.java
+ *
+ * Custo por item de reportar progresso — o placar é itens por segundo somando as threads.
+ * - porItem    o laço de ConsoleResumo.barraDeProgressoDemo sem o sleep: repeat + printf a cada item, em /dev/null
+ * - avancar    BarraDeProgresso.avancar() com o desenhista a 30 quadros/s em /dev/null — uma thread por núcleo
+ *
+ * ./bench.sh -prof gc BarraDeProgressoBench
+ * for t in 1 4; do ./bench.sh -t $t BarraDeProgressoBench.avancar; done
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BarraDeProgressoBench {
+
+    static final long TOTAL = Long.MAX_VALUE / 2;
+    static final int LARGURA = 30;
+
+    private PrintStream nulo;
+    private BarraDeProgresso barra;
+    private long i;
+
+    @Setup
+    public void preparar() throws IOException {
+        nulo = new PrintStream(new FileOutputStream("/dev/null"), true, StandardCharsets.UTF_8);
+        barra = BarraDeProgresso.iniciar(TOTAL, 30, new FileOutputStream("/dev/null"));
+    }
+
+    @TearDown
+    public void encerrar() {
+        barra.close();
+        nulo.close();
+    }
+
+    @Benchmark
+    public void porItem() {
+        int cheios = (int) (i++ % (LARGURA + 1));
+        String bar = "=".repeat(cheios) + " ".repeat(LARGURA - cheios);
+        nulo.printf("\r[%s] %3d%%", bar, cheios * 100 / LARGURA);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void avancar() {
+        barra.avancar();
+    }
+
+}
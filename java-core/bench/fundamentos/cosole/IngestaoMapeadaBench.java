@@ -0,0 +1,87 @@
+package fundamentos.cosole;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * IngestaoMapeadaBench.java
+ *
+ * Escala de IngestaoMapeada de 1 a N threads sobre um arquivo de três inteiros por linha.
+ * Placar em bytes por segundo no resultado :elementos (÷ 1e6 = MB/s); o arquivo fica no cache de páginas, então o teto é a CPU, não o disco.
+ * - resumir     soma/mínimo/máximo por coluna
+ * - carregar    todos os valores num int[]
+ * Referência sequencial sem mmap: LeitorDeNumerosBench.leitor.
+ *
+ * ./bench.sh -p megabytes=1024 -p paralelismo=1,2,4,8,16 IngestaoMapeadaBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IngestaoMapeadaBench {
+
+    @Param({"64"})
+    int megabytes;
+
+    @Param({"1", "2", "4", "8"})
+    int paralelismo;
+
+    long bytes;
+    private Path arquivo;
+    private IngestaoMapeada ingestao;
+
+    @Setup
+    public void preparar() throws IOException {
+        ingestao = new IngestaoMapeada(paralelismo);
+        arquivo = Files.createTempFile("numeros", ".txt");
+        arquivo.toFile().deleteOnExit();
+        Random rnd = new Random(42);
+        long alvo = (long) megabytes << 20;
+        try (BufferedWriter w = Files.newBufferedWriter(arquivo, StandardCharsets.US_ASCII)) {
+            StringBuilder linha = new StringBuilder();
+            long escritos = 0;
+            while (escritos < alvo) {
+                linha.setLength(0);
+                linha.append(rnd.nextInt(2_000_000) - 1_000_000).append(' ')
+                        .append(rnd.nextInt(100_000)).append(' ')
+                        .append(rnd.nextInt()).append('\n');
+                w.append(linha);
+                escritos += linha.length();
+            }
+        }
+        bytes = Files.size(arquivo);
+    }
+
+    @TearDown
+    public void encerrar() {
+        ingestao.close();
+    }
+
+    @Benchmark
+    public Object resumir(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        return ingestao.resumir(arquivo, 3);
+    }
+
+    @Benchmark
+    public int[] carregar(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        return ingestao.carregar(arquivo, 3);
+    }
+
+}
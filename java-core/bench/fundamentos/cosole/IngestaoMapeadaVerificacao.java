@@ -0,0 +1,194 @@
+package fundamentos.cosole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * IngestaoMapeadaVerificacao.java
+ *
+ * Confere que IngestaoMapeada dá o mesmo resultado com qualquer paralelismo.
+ * Cada arquivo é gerado junto com o resultado esperado (valores, somas, mínimos, máximos), calculado à parte;
+ * resumir e carregar rodam com paralelismo 1 (caminho sequencial) e 2, 3, 4, 8, e tudo tem que bater.
+ *
+ * Casos:
+ * - Arquivos de 0 byte a ~9 MB, com 1, 3 e 5 colunas — acima de 1 MB (MENOR_FATIA) o arquivo vira várias fatias.
+ * - Formato variado: espaços e tabs repetidos, '+' opcional, CRLF, linhas em branco ou só com espaços, sem '\n' no fim.
+ * - Valores extremos (Integer.MIN_VALUE, Integer.MAX_VALUE, 0) misturados aos sorteados.
+ * - Linhas de largura fixa, para as fronteiras das fatias caírem exatamente depois de um '\n'.
+ * - Um token inválido numa fatia do meio: todo paralelismo lança IllegalArgumentException com o mesmo byte.
+ *
+ * Sai com status 1 se algum caso divergir.
+ *
+ *   mvn -B -q package && java -cp target/benchmarks.jar fundamentos.cosole.IngestaoMapeadaVerificacao
+ */
+public class IngestaoMapeadaVerificacao {
+
+    static final int[] PARALELISMOS = {1, 2, 3, 4, 8};
+    static final int[] EXTREMOS = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1};
+
+    private static int casos;
+    private static int divergencias;
+
+    public static void main(String[] args) throws IOException {
+
+        Path dir = Files.createTempDirectory("ingestao-verificacao");
+        IngestaoMapeada[] ingestoes = new IngestaoMapeada[PARALELISMOS.length];
+        for (int k = 0; k < ingestoes.length; k++) ingestoes[k] = new IngestaoMapeada(PARALELISMOS[k]);
+        try {
+            SplittableRandom rnd = new SplittableRandom(18);
+            int[] tamanhos = {0, 1, 200, 64 << 10, (1 << 20) - 7, (1 << 20) + 13, 3 << 20, (7 << 20) + 12345, 9 << 20};
+            for (int colunas : new int[]{1, 3, 5}) {
+                for (int tamanho : tamanhos) {
+                    Gerado g = gerar(rnd, colunas, tamanho);
+                    conferir(ingestoes, dir, "sorteado " + colunas + "x" + tamanho, g);
+                }
+            }
+            conferir(ingestoes, dir, "largura fixa 8 MB", larguraFixa(8 << 20));
+            conferirMalformado(ingestoes, dir, rnd);
+        } finally {
+            for (IngestaoMapeada i : ingestoes) i.close();
+            try (var arquivos = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) arquivos::iterator) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(dir);
+        }
+
+        System.out.printf("%d casos × paralelismos %s%n", casos, Arrays.toString(PARALELISMOS));
+        if (divergencias > 0) {
+            System.out.printf("%d divergências%n", divergencias);
+            System.exit(1);
+        }
+        System.out.println("ok — nenhuma divergência");
+
+    }
+
+    /* CONFERÊNCIA */
+
+    private static void conferir(IngestaoMapeada[] ingestoes, Path dir, String nome, Gerado g) throws IOException {
+        casos++;
+        Path arquivo = dir.resolve("caso-" + casos + ".txt");
+        Files.write(arquivo, g.texto);
+        IngestaoMapeada.Resumo esperado = g.resumo();
+        for (IngestaoMapeada ing : ingestoes) {
+            IngestaoMapeada.Resumo r = ing.resumir(arquivo, g.colunas);
+            if (!igual(esperado, r)) falha(nome, ing, "resumir " + r + " esperado " + esperado);
+            int[] v = ing.carregar(arquivo, g.colunas);
+            if (!Arrays.equals(g.valores, v)) {
+                falha(nome, ing, "carregar " + v.length + " valores  primeira diferença em " + Arrays.mismatch(g.valores, v));
+            }
+        }
+        Files.delete(arquivo);
+    }
+
+    // token inválido numa linha do meio  todas as fatias até lá são válidas
+    private static void conferirMalformado(IngestaoMapeada[] ingestoes, Path dir, SplittableRandom rnd) throws IOException {
+        casos++;
+        Gerado g = gerar(rnd, 3, 5 << 20);
+        int meio = g.texto.length / 2;
+        while (g.texto[meio] != '\n') meio++;
+        byte[] texto = new byte[g.texto.length + 4];
+        System.arraycopy(g.texto, 0, texto, 0, meio + 1);
+        System.arraycopy("1x2\n".getBytes(StandardCharsets.US_ASCII), 0, texto, meio + 1, 4);
+        System.arraycopy(g.texto, meio + 1, texto, meio + 5, g.texto.length - meio - 1);
+        Path arquivo = dir.resolve("malformado.txt");
+        Files.write(arquivo, texto);
+        String esperada = "token não é inteiro (byte " + (meio + 1) + ")";
+        for (IngestaoMapeada ing : ingestoes) {
+            for (boolean carregar : new boolean[]{false, true}) {
+                String mensagem = null;
+                try {
+                    if (carregar) ing.carregar(arquivo, 3);
+                    else ing.resumir(arquivo, 3);
+                } catch (IllegalArgumentException e) {
+                    mensagem = e.getMessage();
+                }
+                // o ForkJoinPool pode relançar uma cópia com a original como causa  a mensagem então começa com o nome da classe
+                if (mensagem == null || !mensagem.endsWith(esperada)) {
+                    falha("malformado", ing, (carregar ? "carregar" : "resumir") + " lançou " + mensagem + " esperado " + esperada);
+                }
+            }
+        }
+        Files.delete(arquivo);
+    }
+
+    private static boolean igual(IngestaoMapeada.Resumo a, IngestaoMapeada.Resumo b) {
+        return a.linhas() == b.linhas() && Arrays.equals(a.somas(), b.somas())
+                && Arrays.equals(a.minimos(), b.minimos()) && Arrays.equals(a.maximos(), b.maximos());
+    }
+
+    private static void falha(String nome, IngestaoMapeada ing, String detalhe) {
+        if (++divergencias <= 10) System.out.printf("divergência  %s  paralelismo %d  %s%n", nome, ing.paralelismo(), detalhe);
+    }
+
+    /* GERAÇÃO */
+
+    private record Gerado(byte[] texto, int colunas, int[] valores) {
+
+        IngestaoMapeada.Resumo resumo() {
+            long[] somas = new long[colunas];
+            int[] minimos = new int[colunas];
+            int[] maximos = new int[colunas];
+            Arrays.fill(minimos, Integer.MAX_VALUE);
+            Arrays.fill(maximos, Integer.MIN_VALUE);
+            for (int i = 0; i < valores.length; i++) {
+                int c = i % colunas, v = valores[i];
+                somas[c] += v;
+                minimos[c] = Math.min(minimos[c], v);
+                maximos[c] = Math.max(maximos[c], v);
+            }
+            return new IngestaoMapeada.Resumo(valores.length / colunas, somas, minimos, maximos);
+        }
+    }
+
+    // linhas até passar de 'tamanho' bytes  o último '\n' às vezes fica de fora
+    private static Gerado gerar(SplittableRandom rnd, int colunas, int tamanho) {
+        StringBuilder sb = new StringBuilder(tamanho + 128);
+        int[] valores = new int[16];
+        int n = 0;
+        while (sb.length() < tamanho) {
+            switch (rnd.nextInt(20)) {
+                case 0 -> sb.append('\n');
+                case 1 -> sb.append(" \t \r\n");
+                default -> {
+                    if (rnd.nextBoolean()) sb.append(' ');
+                    for (int c = 0; c < colunas; c++) {
+                        if (c > 0) sb.append(rnd.nextInt(4) == 0 ? "\t " : rnd.nextInt(3) == 0 ? "   " : " ");
+                        int v = switch (rnd.nextInt(8)) {
+                            case 0 -> EXTREMOS[rnd.nextInt(EXTREMOS.length)];
+                            case 1 -> rnd.nextInt();
+                            default -> rnd.nextInt(-1000, 1000);
+                        };
+                        if (v >= 0 && rnd.nextInt(6) == 0) sb.append('+');
+                        sb.append(v);
+                        if (n == valores.length) valores = Arrays.copyOf(valores, n * 2);
+                        valores[n++] = v;
+                    }
+                    if (rnd.nextInt(5) == 0) sb.append(' ');
+                    sb.append(rnd.nextInt(4) == 0 ? "\r\n" : "\n");
+                }
+            }
+        }
+        if (sb.length() > 0 && rnd.nextBoolean() && sb.charAt(sb.length() - 1) == '\n') sb.setLength(sb.length() - 1);
+        return new Gerado(sb.toString().getBytes(StandardCharsets.US_ASCII), colunas, Arrays.copyOf(valores, n));
+    }
+
+    // "1234567\n"  8 bytes por linha  tamanho / fatias * f sempre cai logo depois de um '\n'
+    private static Gerado larguraFixa(int tamanho) {
+        int linhas = tamanho / 8;
+        byte[] texto = new byte[linhas * 8];
+        int[] valores = new int[linhas];
+        for (int l = 0; l < linhas; l++) {
+            int v = 1_000_000 + l % 9_000_000;
+            valores[l] = v;
+            byte[] s = Integer.toString(v).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(s, 0, texto, l * 8, 7);
+            texto[l * 8 + 7] = '\n';
+        }
+        return new Gerado(texto, 1, valores);
+    }
+
+}
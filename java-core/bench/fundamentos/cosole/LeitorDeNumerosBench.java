@@ -0,0 +1,113 @@
+package fundamentos.cosole;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.Scanner;
+
+/**
+ * LeitorDeNumerosBench.java
+ *
+ * Soma de um arquivo de inteiros, três por linha como em ConsoleResumo.leituraComBufferedReader.
+ * Placar em bytes por segundo no resultado :elementos (÷ 1e6 = MB/s); o arquivo fica no cache de páginas depois da primeira leitura.
+ * - scanner                  Scanner.hasNextInt/nextInt
+ * - bufferedReaderSplit      readLine().trim().split("\\s+") + Integer.parseInt
+ * - leitor                   LeitorDeNumeros.proximoInt num laço
+ * - leitorStream             LeitorDeNumeros.ints().sum()
+ *
+ * O padrão cabe numa rodada rápida — para o arquivo de 1 GB:
+ * ./bench.sh -p megabytes=1024 LeitorDeNumerosBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LeitorDeNumerosBench {
+
+    @Param({"16"})
+    int megabytes;
+
+    long bytes;
+    private Path arquivo;
+
+    @Setup
+    public void preparar() throws IOException {
+        arquivo = Files.createTempFile("numeros", ".txt");
+        arquivo.toFile().deleteOnExit();
+        Random rnd = new Random(42);
+        long alvo = (long) megabytes << 20;
+        try (BufferedWriter w = Files.newBufferedWriter(arquivo, StandardCharsets.US_ASCII)) {
+            StringBuilder linha = new StringBuilder();
+            long escritos = 0;
+            while (escritos < alvo) {
+                linha.setLength(0);
+                linha.append(rnd.nextInt(2_000_000) - 1_000_000).append(' ')
+                        .append(rnd.nextInt(100_000)).append(' ')
+                        .append(rnd.nextInt()).append('\n');
+                w.append(linha);
+                escritos += linha.length();
+            }
+        }
+        bytes = Files.size(arquivo);
+    }
+
+    @Benchmark
+    public long scanner(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        long soma = 0;
+        try (Scanner sc = new Scanner(new FileInputStream(arquivo.toFile()), StandardCharsets.US_ASCII)) {
+            while (sc.hasNextInt()) soma += sc.nextInt();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long bufferedReaderSplit(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        long soma = 0;
+        try (BufferedReader br = Files.newBufferedReader(arquivo, StandardCharsets.US_ASCII)) {
+            String linha;
+            while ((linha = br.readLine()) != null) {
+                for (String t : linha.trim().split("\\s+")) soma += Integer.parseInt(t);
+            }
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long leitor(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        long soma = 0;
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            LeitorDeNumeros in = new LeitorDeNumeros(ch);
+            while (in.temProximo()) soma += in.proximoInt();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long leitorStream(Contagem contagem) throws IOException {
+        contagem.elementos += bytes;
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return new LeitorDeNumeros(ch).ints().asLongStream().sum();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package fundamentos.cosole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SaidaBufferizadaBench.java
+ *
+ * Linhas curtas ("linha " + número) por segundo em /dev/null — 10 milhões de linhas levam 10M / placar segundos.
+ * - printStreamAutoflush  como o System.out: sincronizado, encoder de charset, flush a cada linha
+ * - printStreamBuffer     PrintStream sem auto-flush sobre BufferedOutputStream do mesmo tamanho
+ * - saidaBufferizada      API direta, política explícita
+ * - adaptador             mesma saída pelo PrintStream de comoPrintStream(): o caminho de um *Resumo que optou
+ *
+ * ./bench.sh -prof gc SaidaBufferizadaBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SaidaBufferizadaBench {
+
+    private PrintStream autoflush;
+    private PrintStream bufferizado;
+    private SaidaBufferizada saida;
+    private PrintStream adaptador;
+    private int i;
+
+    @Setup
+    public void preparar() throws IOException {
+        autoflush = new PrintStream(new FileOutputStream("/dev/null"), true, StandardCharsets.UTF_8);
+        bufferizado = new PrintStream(new BufferedOutputStream(new FileOutputStream("/dev/null"), SaidaBufferizada.BUFFER_PADRAO),
+                false, StandardCharsets.UTF_8);
+        saida = new SaidaBufferizada(new FileOutputStream("/dev/null"), SaidaBufferizada.Politica.explicita(), SaidaBufferizada.BUFFER_PADRAO);
+        adaptador = new SaidaBufferizada(new FileOutputStream("/dev/null"), SaidaBufferizada.Politica.explicita(),
+                SaidaBufferizada.BUFFER_PADRAO).comoPrintStream();
+    }
+
+    @Benchmark
+    public void printStreamAutoflush() {
+        autoflush.print("linha ");
+        autoflush.println(i++);
+    }
+
+    @Benchmark
+    public void printStreamBuffer() {
+        bufferizado.print("linha ");
+        bufferizado.println(i++);
+    }
+
+    @Benchmark
+    public void saidaBufferizada() {
+        saida.escrever("linha ").escrever(i++).novaLinha();
+    }
+
+    @Benchmark
+    public void adaptador() {
+        adaptador.print("linha ");
+        adaptador.println(i++);
+    }
+
+}
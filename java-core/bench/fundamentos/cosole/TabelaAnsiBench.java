@@ -0,0 +1,68 @@
+package fundamentos.cosole;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * TabelaAnsiBench.java
+ *
+ * Linhas por segundo de "%-12s %10d %10.2f" escritas em /dev/null.
+ * - printfAutoflush    PrintStream com auto-flush, como o System.out: uma chamada de sistema por linha
+ * - printfBufferizado  mesmo printf sobre BufferedOutputStream de 64 KB: isola o custo de formatar
+ * - tabelaAnsi         layout compilado, com uma célula colorida por linha
+ *
+ * ./bench.sh -prof gc TabelaAnsiBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TabelaAnsiBench {
+
+    private final String[] nomes = new String[1024];
+    private PrintStream autoflush;
+    private PrintStream bufferizado;
+    private TabelaAnsi tabela;
+    private int i;
+
+    @Setup
+    public void preparar() throws IOException {
+        for (int k = 0; k < nomes.length; k++) nomes[k] = "produto-" + k;
+        autoflush = new PrintStream(new FileOutputStream("/dev/null"), true);
+        bufferizado = new PrintStream(new BufferedOutputStream(new FileOutputStream("/dev/null"), 1 << 16), false);
+        tabela = new TabelaAnsi(new FileOutputStream("/dev/null").getChannel(), List.of(
+                TabelaAnsi.Coluna.texto("Produto", 12),
+                TabelaAnsi.Coluna.inteiro("Qtd", 10),
+                TabelaAnsi.Coluna.decimal("Preço", 10, 2)));
+    }
+
+    @Benchmark
+    public void printfAutoflush() {
+        int k = i++;
+        autoflush.printf("%-12s %10d %10.2f%n", nomes[k & 1023], k, k * 0.25);
+    }
+
+    @Benchmark
+    public void printfBufferizado() {
+        int k = i++;
+        bufferizado.printf("%-12s %10d %10.2f%n", nomes[k & 1023], k, k * 0.25);
+    }
+
+    @Benchmark
+    public void tabelaAnsi() {
+        int k = i++;
+        tabela.texto(nomes[k & 1023]).inteiro(k).estilo(TabelaAnsi.Estilo.VERDE).decimal(k * 0.25).fimDaLinha();
+    }
+
+}
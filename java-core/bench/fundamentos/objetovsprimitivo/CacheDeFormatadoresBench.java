@@ -0,0 +1,56 @@
+package fundamentos.objetovsprimitivo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * CacheDeFormatadoresBench.java
+ *
+ * Criar NumberFormat a cada chamada (como tryParseLocale fazia) x CacheDeFormatadores
+ * em parse de numero pt-BR e formatacao de moeda  com 1 e 4 threads.
+ *
+ * ./bench.sh -prof gc CacheDeFormatadoresBench           (4 threads)
+ * ./bench.sh -prof gc -t 1 CacheDeFormatadoresBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CacheDeFormatadoresBench {
+
+    private static final Locale BR = Locale.of("pt", "BR");
+
+    @Benchmark
+    @Threads(4)
+    public double parseNovaInstancia() throws ParseException {
+        return NumberFormat.getNumberInstance(BR).parse("1.234,56").doubleValue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double parseComCache() throws ParseException {
+        return CacheDeFormatadores.padrao().numero(BR).parse("1.234,56").doubleValue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String moedaNovaInstancia() {
+        return NumberFormat.getCurrencyInstance(BR).format(1234.56);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String moedaComCache() {
+        return CacheDeFormatadores.padrao().moeda(BR).format(1234.56);
+    }
+
+}
@@ -0,0 +1,43 @@
+package fundamentos.objetovsprimitivo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ObjetoVsPrimitivoBench.java
+ *
+ * Versao medida do laco de ObjetoVsPrimitivoResumo.autoboxingUnboxingPitfalls
+ * 10 mil somas com long primitivo x Long no hot path.
+ *
+ * ./bench.sh -prof gc ObjetoVsPrimitivoBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjetoVsPrimitivoBench {
+
+    static final int N = 1_0000;
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long loopPrimitivo() {
+        long sum = 0;
+        for (int k = 0; k < N; k++) sum += k;
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long loopBoxed() {
+        Long sumBox = 0L;
+        for (int k = 0; k < N; k++) sumBox += k;
+        return sumBox;
+    }
+
+}
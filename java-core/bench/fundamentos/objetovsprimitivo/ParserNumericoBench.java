@@ -0,0 +1,141 @@
+package fundamentos.objetovsprimitivo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+
+/**
+ * ParserNumericoBench.java
+ *
+ * ParserNumerico x helpers tryParseInt/tryParseDouble de ConversaoNumeroStringResumo
+ * sobre um lote de campos  com uma fracao de entradas invalidas para exercitar o caminho de erro
+ * que nos helpers custa uma NumberFormatException.
+ *
+ * ./bench.sh -prof gc ParserNumericoBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserNumericoBench {
+
+    static final int LOTE = 1_024;
+
+    // percentual de campos invalidos no lote
+    @Param({"0", "10"})
+    int invalidos;
+
+    private String[] inteiros;
+    private String[] reais;
+    private byte[] inteirosAscii;
+    private int[] inicioInt;
+    private int[] tamanhoInt;
+    private byte[] reaisAscii;
+    private int[] inicioReal;
+    private int[] tamanhoReal;
+    private final ParserNumerico.Resultado r = new ParserNumerico.Resultado();
+
+    @Setup
+    public void preparar() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        inteiros = new String[LOTE];
+        reais = new String[LOTE];
+        for (int i = 0; i < LOTE; i++) {
+            boolean ruim = rnd.nextInt(100) < invalidos;
+            inteiros[i] = ruim ? "12a" + i : " " + (rnd.nextInt() >> rnd.nextInt(31));
+            reais[i] = ruim ? "1,2,3" : String.format(Locale.ROOT, "%.2f", rnd.nextDouble() * 10_000).replace('.', ',');
+        }
+        inicioInt = new int[LOTE];
+        tamanhoInt = new int[LOTE];
+        inteirosAscii = concatenar(inteiros, inicioInt, tamanhoInt);
+        inicioReal = new int[LOTE];
+        tamanhoReal = new int[LOTE];
+        reaisAscii = concatenar(reais, inicioReal, tamanhoReal);
+    }
+
+    // simula um buffer de leitura  todos os campos num unico byte[]
+    private static byte[] concatenar(String[] campos, int[] inicio, int[] tamanho) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < campos.length; i++) {
+            inicio[i] = sb.length();
+            tamanho[i] = campos[i].length();
+            sb.append(campos[i]);
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public long intComOptional() {
+        long soma = 0;
+        for (String s : inteiros) {
+            OptionalInt v = ConversaoNumeroStringResumo.tryParseInt(s);
+            if (v.isPresent()) soma += v.getAsInt();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public long intParserCharSequence() {
+        long soma = 0;
+        for (String s : inteiros) {
+            if (ParserNumerico.parseInt(s, 0, s.length(), r)) soma += r.comoInt();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public long intParserBytes() {
+        long soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            if (ParserNumerico.parseInt(inteirosAscii, inicioInt[i], tamanhoInt[i], r)) soma += r.comoInt();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double doubleComOptional() {
+        double soma = 0;
+        for (String s : reais) {
+            OptionalDouble v = ConversaoNumeroStringResumo.tryParseDouble(s);
+            if (v.isPresent()) soma += v.getAsDouble();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double doubleParserCharSequence() {
+        double soma = 0;
+        for (String s : reais) {
+            if (ParserNumerico.parseDouble(s, 0, s.length(), r)) soma += r.comoDouble();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double doubleParserBytes() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            if (ParserNumerico.parseDouble(reaisAscii, inicioReal[i], tamanhoReal[i], r)) soma += r.comoDouble();
+        }
+        return soma;
+    }
+
+}
@@ -0,0 +1,102 @@
+package fundamentos.operadores;
+
+import desempenho.Contagem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * PredicadoDeColunaBench.java
+ *
+ * Contagem de quem passa na regra  (18 <= idade <= 59 e par) ou idade > 90  numa coluna de idades 0 a 100
+ * sorteadas  placar em valores/s no resultado :elementos
+ * - predicadoEmpacotado   Predicate<Integer> com and/or sobre List<Integer>  o padrao de OperadoresLogicosResumo
+ * - intStream             IntPredicate com and/or em IntStream.filter  sem boxing  chamada por no por valor
+ * - laco                  for com && e || escritos a mao  desvio por valor  erra muito com dados sorteados
+ * - mascaras              PredicadoDeColuna.contar  um long por bloco de 64  sem desvio por valor
+ * - selecao               PredicadoDeColuna.selecionar  aloca o long[] do resultado
+ *
+ * Com tamanho 1024 a mesma coluna se repete a cada chamada e o preditor de desvio decora o padrao
+ * laco e intStream parecem rapidos demais  o numero honesto para dados reais eh o de 1048576
+ *
+ * ./bench.sh -prof gc PredicadoDeColunaBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PredicadoDeColunaBench {
+
+    @Param({"1024", "1048576"})
+    int tamanho;
+
+    private int[] idades;
+    private List<Integer> idadesEmpacotadas;
+    private Predicate<Integer> empacotado;
+    private IntPredicate composto;
+    private PredicadoDeColuna regra;
+
+    @Setup
+    public void preparar() {
+        idades = new SplittableRandom(41).ints(tamanho, 0, 101).toArray();
+        idadesEmpacotadas = new ArrayList<>(tamanho);
+        for (int v : idades) idadesEmpacotadas.add(v);
+
+        Predicate<Integer> adulto = n -> n >= 18 && n <= 59;
+        Predicate<Integer> par = n -> n % 2 == 0;
+        empacotado = adulto.and(par).or(n -> n > 90);
+
+        IntPredicate adultoInt = n -> n >= 18 && n <= 59;
+        IntPredicate parInt = n -> n % 2 == 0;
+        composto = adultoInt.and(parInt).or(n -> n > 90);
+
+        regra = PredicadoDeColuna.entre(18, 59).and(PredicadoDeColuna.multiploDe(2)).or(PredicadoDeColuna.maiorQue(90));
+    }
+
+    @Benchmark
+    public long predicadoEmpacotado(Contagem contagem) {
+        contagem.elementos += tamanho;
+        return idadesEmpacotadas.stream().filter(empacotado).count();
+    }
+
+    @Benchmark
+    public long intStream(Contagem contagem) {
+        contagem.elementos += tamanho;
+        return IntStream.of(idades).filter(composto).count();
+    }
+
+    @Benchmark
+    public int laco(Contagem contagem) {
+        contagem.elementos += tamanho;
+        int total = 0;
+        for (int n : idades) {
+            if ((n >= 18 && n <= 59 && n % 2 == 0) || n > 90) total++;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int mascaras(Contagem contagem) {
+        contagem.elementos += tamanho;
+        return regra.contar(idades);
+    }
+
+    @Benchmark
+    public int selecao(Contagem contagem) {
+        contagem.elementos += tamanho;
+        return regra.selecionar(idades).length;
+    }
+
+}
@@ -0,0 +1,51 @@
+package fundamentos.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+
+/**
+ * AcentosBench.java
+ *
+ * Chave de busca de um nome  o caminho de TipoString.normalizacaoDeAcentos x Acentos.remover
+ * - nome ASCII  caso mais comum  Acentos devolve a propria String
+ * - nome com acentos de Latin-1
+ *
+ * ./bench.sh -prof gc AcentosBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AcentosBench {
+
+    static final String ASCII = "Joao Pedro Conceicao da Silva";
+    static final String ACENTUADO = "João Pedro Conceição da Silva Araújo";
+
+    private final StringBuilder chave = new StringBuilder(64);
+
+    @Benchmark
+    public String asciiNormalizer() { return Normalizer.normalize(ASCII, Normalizer.Form.NFD).replaceAll("\\p{M}+", ""); }
+
+    @Benchmark
+    public String asciiAcentos() { return Acentos.remover(ASCII); }
+
+    @Benchmark
+    public String acentuadoNormalizer() { return Normalizer.normalize(ACENTUADO, Normalizer.Form.NFD).replaceAll("\\p{M}+", ""); }
+
+    @Benchmark
+    public String acentuadoAcentos() { return Acentos.remover(ACENTUADO); }
+
+    // chave montada num builder reaproveitado  sem String de saida
+    @Benchmark
+    public int acentuadoAcentosEm() {
+        chave.setLength(0);
+        return Acentos.removerEm(ACENTUADO, chave).length();
+    }
+
+}
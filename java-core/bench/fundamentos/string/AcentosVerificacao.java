@@ -0,0 +1,101 @@
+package fundamentos.string;
+
+import java.text.Normalizer;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * AcentosVerificacao.java
+ *
+ * Confere Acentos.remover e Acentos.removerEm contra a referencia
+ * Normalizer.normalize(s  NFD).replaceAll("\\p{M}+", "")  a referencia eh recalculada aqui  sem usar Acentos.referencia
+ *
+ * Conteudo
+ * 1) Exaustiva no BMP  cada char de U+0000 a U+FFFF sozinho e entre dois ASCII
+ * 2) Atalho seguido de marca  cada char de U+0000 a U+017F com cada marca de U+0300 a U+036F  e com duas marcas
+ * 3) Pares do atalho  todo par de chars de U+0080 a U+017F
+ * 4) Sorteio  textos mistos de ASCII  Latin  marcas  outros blocos e pares de surrogates
+ *
+ * Sai com status 1 se houver divergencia  imprime as 10 primeiras
+ *
+ * mvn -B -q package && java -cp target/benchmarks.jar fundamentos.string.AcentosVerificacao
+ */
+public class AcentosVerificacao {
+
+    static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    static final int SORTEIOS = 2_000_000;
+
+    private static long casos;
+    private static int divergencias;
+
+    public static void main(String[] args) {
+
+        for (int c = 0; c <= 0xFFFF; c++) {
+            String s = String.valueOf((char) c);
+            conferir(s);
+            conferir("a" + s + "b");
+        }
+        System.out.printf("1) BMP exaustivo          %,d casos%n", casos);
+
+        long antes = casos;
+        for (int c = 0; c <= Acentos.FIM_TABELA; c++) {
+            for (int m = 0x300; m <= 0x36F; m++) {
+                conferir("" + (char) c + (char) m);
+                conferir("" + (char) c + (char) m + (char) (0x36F - (m - 0x300)));
+            }
+        }
+        System.out.printf("2) atalho + marcas        %,d casos%n", casos - antes);
+
+        antes = casos;
+        for (int a = Acentos.INICIO_TABELA; a <= Acentos.FIM_TABELA; a++) {
+            for (int b = Acentos.INICIO_TABELA; b <= Acentos.FIM_TABELA; b++) conferir("" + (char) a + (char) b);
+        }
+        System.out.printf("3) pares do atalho        %,d casos%n", casos - antes);
+
+        antes = casos;
+        SplittableRandom rnd = new SplittableRandom(20);
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < SORTEIOS; k++) {
+            sb.setLength(0);
+            int n = rnd.nextInt(1, 24);
+            for (int j = 0; j < n; j++) {
+                switch (rnd.nextInt(6)) {
+                    case 0, 1 -> sb.append((char) rnd.nextInt(0x20, 0x7F));
+                    case 2 -> sb.append((char) rnd.nextInt(Acentos.INICIO_TABELA, Acentos.FIM_TABELA + 1));
+                    case 3 -> sb.append((char) rnd.nextInt(0x300, 0x370));
+                    case 4 -> sb.append((char) rnd.nextInt(0x180, 0xD800));
+                    default -> sb.appendCodePoint(rnd.nextInt(0x10000, 0x110000));
+                }
+            }
+            conferir(sb.toString());
+        }
+        System.out.printf("4) sorteio                %,d casos%n", casos - antes);
+
+        if (divergencias > 0) {
+            System.out.printf("%,d divergencias%n", divergencias);
+            System.exit(1);
+        }
+        System.out.println("ok  nenhuma divergencia");
+
+    }
+
+    static void conferir(String s) {
+        casos++;
+        String esperado = MARCAS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+        String rapido = Acentos.remover(s);
+        String anexado = Acentos.removerEm(s, new StringBuilder("@")).substring(1);
+        if (!esperado.equals(rapido) || !esperado.equals(anexado)) {
+            if (++divergencias <= 10) {
+                System.out.printf("divergencia em %s  esperado %s  remover %s  removerEm %s%n",
+                        pontos(s), pontos(esperado), pontos(rapido), pontos(anexado));
+            }
+        }
+    }
+
+    private static String pontos(String s) {
+        StringBuilder sb = new StringBuilder("[");
+        s.codePoints().forEach(cp -> sb.append(sb.length() > 1 ? " " : "").append(String.format("U+%04X", cp)));
+        return sb.append(']').toString();
+    }
+
+}
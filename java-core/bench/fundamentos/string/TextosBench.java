@@ -0,0 +1,68 @@
+package fundamentos.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+
+/**
+ * TextosBench.java
+ *
+ * Cada operacao de TipoString.substituicaoERegex e StringIgualdadeResumo.normalizacaoEAcentos em tres versoes
+ * - regex   String.replaceAll  matches  split  recompila o Pattern a cada chamada
+ * - cache   mesmo Pattern vindo de CacheDePadroes
+ * - atalho  laco sobre char de Textos  quando existe
+ *
+ * ./bench.sh -prof gc TextosBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TextosBench {
+
+    static final String VALOR = "R$ 1.234.567,89";
+    static final String EMAIL = "maria.silva-2024@empresa.com.br";
+    static final String EMAIL_REGEX = "^[\\w.%-]+@[\\w.-]+\\.[A-Za-z]{2,}$";
+    static final String CSV = "ana,joao,lia,pedro,rafaela,bruno,carla,diego";
+    static final String NFD = Normalizer.normalize("Joao Conceicao de Sao Paulo e Ines Araujo".replace("ao", "ão"), Normalizer.Form.NFD);
+
+    @Benchmark
+    public String digitosRegex() { return VALOR.replaceAll("[^0-9,]", ""); }
+
+    @Benchmark
+    public String digitosCache() { return Textos.substituirTodos(VALOR, "[^0-9,]", ""); }
+
+    @Benchmark
+    public String digitosAtalho() { return Textos.manterDigitos(VALOR, ","); }
+
+    @Benchmark
+    public boolean emailRegex() { return EMAIL.matches(EMAIL_REGEX); }
+
+    @Benchmark
+    public boolean emailCache() { return Textos.casa(EMAIL, EMAIL_REGEX); }
+
+    @Benchmark
+    public boolean emailAtalho() { return Textos.pareceEmail(EMAIL); }
+
+    // String.split ja tem atalho interno para um char  a comparacao mostra o custo da ArrayList dele
+    @Benchmark
+    public String[] splitString() { return CSV.split(","); }
+
+    @Benchmark
+    public String[] splitCache() { return CacheDePadroes.padrao().obter(",").split(CSV); }
+
+    @Benchmark
+    public String[] splitAtalho() { return Textos.dividir(CSV, ','); }
+
+    @Benchmark
+    public String marcasRegex() { return NFD.replaceAll("\\p{M}+", ""); }
+
+    @Benchmark
+    public String marcasCache() { return Textos.substituirTodos(NFD, "\\p{M}+", ""); }
+
+}
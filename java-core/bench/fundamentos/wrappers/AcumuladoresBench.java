@@ -0,0 +1,97 @@
+package fundamentos.wrappers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * AcumuladoresBench.java
+ *
+ * Acumulacao de long em 1  4 e N threads  complemento de WrappersBench
+ * para decidir o que usar ao tirar wrappers de lacos quentes.
+ *
+ * Variantes
+ * - long primitivo e Long  acumulador local por thread (confinado  sem disputa)
+ * - LongAdder e AtomicLong  um unico acumulador compartilhado por todas as threads
+ * - LongStream.sum  soma de faixa sequencial por thread
+ *
+ * Cada chamada soma 'lote' valores  o placar eh somas por segundo somando todas as threads.
+ * Rode com -prof gc para ver bytes por soma  Long aloca fora do cache [-128..127].
+ *
+ * Sem -t roda com uma thread por nucleo
+ * for t in 1 4; do ./bench.sh -prof gc -t $t -rf json -rff out/acumuladores-$t.json AcumuladoresBench; done
+ * ./bench.sh -prof gc -rf json -rff out/acumuladores.json AcumuladoresBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AcumuladoresBench {
+
+    static final int LOTE = 1_000;
+
+    @Param({"1000"})
+    int base;
+
+    private final LongAdder adder = new LongAdder();
+    private final AtomicLong atomic = new AtomicLong();
+
+    // 1) long primitivo  o JIT mantem o acumulador em registrador
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    @Threads(Threads.MAX)
+    public long primitivo() {
+        long acc = 0;
+        for (int i = 0; i < LOTE; i++) acc += base + i;
+        return acc;
+    }
+
+    // 2) Long  unboxing  soma e valueOf a cada passo
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    @Threads(Threads.MAX)
+    public Long wrapper() {
+        Long acc = 0L;
+        for (int i = 0; i < LOTE; i++) acc += base + i;
+        return acc;
+    }
+
+    // 3) LongAdder compartilhado  celulas por thread diluem a disputa
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    @Threads(Threads.MAX)
+    public void longAdder(Blackhole bh) {
+        for (int i = 0; i < LOTE; i++) adder.add(base + i);
+        bh.consume(adder);
+    }
+
+    // 4) AtomicLong compartilhado  todo CAS disputa a mesma linha de cache
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    @Threads(Threads.MAX)
+    public long atomicLong() {
+        long ultimo = 0;
+        for (int i = 0; i < LOTE; i++) ultimo = atomic.addAndGet(base + i);
+        return ultimo;
+    }
+
+    // 5) LongStream.sum sequencial  sem boxing  custo fixo do pipeline por chamada
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    @Threads(Threads.MAX)
+    public long longStream() {
+        return LongStream.range(base, base + LOTE).sum();
+    }
+
+}
@@ -0,0 +1,45 @@
+package fundamentos.wrappers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WrappersBench.java
+ *
+ * Versao medida de WrappersResumo.pitfallsComDesempenhoENPE
+ * mesmo laco de 200_000 somas  primitivo x Long com boxing/unboxing a cada iteracao.
+ *
+ * ./bench.sh -prof gc WrappersBench
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WrappersBench {
+
+    static final int N = 200_000;
+
+    // acumulador primitivo  sem objetos no laco
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long somaPrimitiva() {
+        long acc = 0;
+        for (int i = 0; i < N; i++) acc += i;
+        return acc;
+    }
+
+    // acumulador Long  cada += desencaixota  soma e encaixota de novo
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public long somaComBoxing() {
+        Long accBox = 0L;
+        for (int i = 0; i < N; i++) accBox += i;
+        return accBox;
+    }
+
+}
@@ -124,7 +124,8 @@ public class ClassesResumo {
 
         System.out.println("\nImutabilidade pragmatica e fabrica");
 
-        Dinheiro v1 = Dinheiro.deReais(12_30);
+        // Dinheiro eh um objeto de valor compartilhado  ver Dinheiro.java
+        Dinheiro v1 = Dinheiro.deCentavos(12_30);
         Dinheiro v2 = v1.acrescentar(0_70);
         System.out.println("valor original  " + v1);
         System.out.println("valor com acrescimo  " + v2);
@@ -284,22 +285,6 @@ public class ClassesResumo {
         }
     }
 
-    // Tipo imutavel com factory e operacao pura
-    static final class Dinheiro {
-        private final long centavos;
-        private Dinheiro(long centavos) {
-            if (centavos < 0) throw new IllegalArgumentException("valor negativo");
-            this.centavos = centavos;
-        }
-        public static Dinheiro deReais(long centavos) { return new Dinheiro(centavos); }
-        public Dinheiro acrescentar(long centavos) { return new Dinheiro(this.centavos + centavos); }
-        @Override public String toString() {
-            long reais = centavos / 100;
-            long cents = Math.abs(centavos % 100);
-            return "R$ " + reais + "," + String.format("%02d", cents);
-        }
-    }
-
     // Builder simples para objeto com muitos atributos opcionais
     static final class Usuario {
         private final String nome;
@@ -1,6 +1,8 @@
 package classesemetodos;
 
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -152,6 +154,16 @@ public class ClassesVsObjetosResumo {
         pedido.adicionarItem(new Item("Mouse", 99_90, 1));
         pedido.adicionarItem(new Item("Teclado", 199_90, 1));
         System.out.println("pedido com total em centavos              " + pedido.totalCentavos());
+        // mesmo pedido em colunas  arrays de precos e quantidades no lugar de objetos Item
+        PedidoColunar colunar = PedidoColunar.de(pedido);
+        System.out.println("pedido colunar com total em centavos      " + colunar.totalCentavos());
+
+        // muitos pedidos  totais por categoria de cliente em paralelo
+        Pedido outro = new Pedido(new Cliente("Gui", 41, "Silver"));
+        outro.adicionarItem(new Item("Monitor", 899_90, 2));
+        try (ConsolidadorDePedidos consolidador = new ConsolidadorDePedidos(2)) {
+            System.out.println("totais por categoria                      " + consolidador.consolidarPedidos(List.of(pedido, outro)));
+        }
 
         // Heranca  Animal e subtipos
         Animal a1 = new Cachorro("Rex");
@@ -170,6 +182,17 @@ public class ClassesVsObjetosResumo {
         Dinheiro v2 = v1.acrescentar(0_70);
         System.out.println("valor original                             " + v1);
         System.out.println("valor apos acrescimo                       " + v2);
+        System.out.println("igualdade por valor                        " + v1.equals(Dinheiro.deCentavos(12_30)));
+        try {
+            Dinheiro.deCentavos(Long.MAX_VALUE).acrescentar(1);
+        } catch (ArithmeticException e) {
+            System.out.println("acrescimo exato detectou estouro");
+        }
+
+        // em lote  um long[] em vez de um objeto por valor
+        VetorDeDinheiro fatura = VetorDeDinheiro.deCentavos(10_00, 25_50, 3_99);
+        System.out.println("total da coluna                            " + fatura.total());
+        System.out.println("imposto de 15,75% por linha                " + fatura.percentualPara(new VetorDeDinheiro(3), 1_575, RoundingMode.HALF_UP));
 
     }
 
@@ -289,9 +312,11 @@ public class ClassesVsObjetosResumo {
             if (i == null || i.qtd <= 0) throw new IllegalArgumentException("item invalido");
             itens.add(i);
         }
+        public Cliente cliente() { return cliente; }
+        List<Item> itens() { return Collections.unmodifiableList(itens); }
         public long totalCentavos() {
             long soma = 0;
-            for (Item i : itens) soma += i.subtotalCentavos();
+            for (Item i : itens) soma = Math.addExact(soma, i.subtotalCentavos());
             return soma;
         }
     }
@@ -306,7 +331,11 @@ public class ClassesVsObjetosResumo {
             this.precoCentavos = Math.round(precoCentavos);
             this.qtd = qtd;
         }
-        long subtotalCentavos() { return Math.round(precoCentavos) * qtd; }
+        String nome() { return nome; }
+        long precoCentavos() { return precoCentavos; }
+        int qtd() { return qtd; }
+        // precoCentavos ja eh long  arredondado uma vez no construtor
+        long subtotalCentavos() { return Math.multiplyExact(precoCentavos, qtd); }
     }
 
     // Heranca
@@ -326,21 +355,4 @@ public class ClassesVsObjetosResumo {
         @Override
         public String som() { return "miau"; }
     }
-
-    // Imutavel de valor
-    static final class Dinheiro {
-        private final long centavos;
-        private Dinheiro(long centavos) {
-            if (centavos < 0) throw new IllegalArgumentException("valor negativo");
-            this.centavos = centavos;
-        }
-        public static Dinheiro deCentavos(long c) { return new Dinheiro(c); }
-        public Dinheiro acrescentar(long c) { return new Dinheiro(this.centavos + c); }
-        @Override
-        public String toString() {
-            long r = centavos / 100;
-            long s = Math.abs(centavos % 100);
-            return "R$ " + r + "," + String.format("%02d", s);
-        }
-    }
 }
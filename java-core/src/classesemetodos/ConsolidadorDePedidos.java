@@ -0,0 +1,128 @@
+package classesemetodos;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * ConsolidadorDePedidos.java
+ *
+ * Totais por categoria de cliente sobre milhoes de pedidos  ForkJoin com parciais locais.
+ *
+ * Conteudo
+ * 1) Pool proprio com paralelismo configuravel  1 reproduz o caminho sequencial
+ * 2) Divisao recursiva por faixas de indice  folhas com ate LIMIAR pedidos
+ * 3) Cada folha acumula num HashMap proprio  sem estado compartilhado nem locks
+ * 4) Parciais fundidos no join  somas com addExact  estouro vira ArithmeticException
+ * 5) Generico  aceita Pedido  PedidoColunar ou qualquer T com funcoes de categoria e total
+ *
+ * Use com try-with-resources  close encerra o pool.
+ */
+public final class ConsolidadorDePedidos implements AutoCloseable {
+
+    static final int LIMIAR = 4_096;
+
+    public record Totais(long centavos, long pedidos) { }
+
+    private final ForkJoinPool pool;
+
+    public ConsolidadorDePedidos(int paralelismo) {
+        if (paralelismo <= 0) throw new IllegalArgumentException("paralelismo invalido");
+        this.pool = new ForkJoinPool(paralelismo);
+    }
+
+    public int paralelismo() { return pool.getParallelism(); }
+
+    public Map<String, Totais> consolidarPedidos(List<ClassesVsObjetosResumo.Pedido> pedidos) {
+        return consolidar(pedidos, p -> p.cliente().categoria(), ClassesVsObjetosResumo.Pedido::totalCentavos);
+    }
+
+    public Map<String, Totais> consolidarColunares(List<PedidoColunar> pedidos) {
+        return consolidar(pedidos, p -> p.cliente().categoria(), PedidoColunar::totalCentavos);
+    }
+
+    // lista com acesso aleatorio  a divisao usa indices
+    public <T> Map<String, Totais> consolidar(List<T> pedidos, Function<? super T, String> categoria,
+                                              ToLongFunction<? super T> total) {
+
+        Objects.requireNonNull(pedidos, "pedidos");
+        Objects.requireNonNull(categoria, "categoria");
+        Objects.requireNonNull(total, "total");
+        Map<String, long[]> parcial = pool.invoke(new Faixa<>(pedidos, 0, pedidos.size(), categoria, total));
+
+        Map<String, Totais> saida = new TreeMap<>();
+        parcial.forEach((cat, acc) -> saida.put(cat, new Totais(acc[0], acc[1])));
+        return Collections.unmodifiableMap(saida);
+
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // acumulador {centavos  pedidos} por categoria  long[] evita um objeto por incremento
+    // ForkJoinTask eh Serializable so por heranca  a tarefa nunca eh serializada
+    @SuppressWarnings("serial")
+    static final class Faixa<T> extends RecursiveTask<Map<String, long[]>> {
+
+        private final List<T> pedidos;
+        private final int ini;
+        private final int fim;
+        private final Function<? super T, String> categoria;
+        private final ToLongFunction<? super T> total;
+
+        Faixa(List<T> pedidos, int ini, int fim, Function<? super T, String> categoria, ToLongFunction<? super T> total) {
+            this.pedidos = pedidos;
+            this.ini = ini;
+            this.fim = fim;
+            this.categoria = categoria;
+            this.total = total;
+        }
+
+        @Override
+        protected Map<String, long[]> compute() {
+
+            if (fim - ini <= LIMIAR) {
+                Map<String, long[]> local = new HashMap<>();
+                for (int i = ini; i < fim; i++) {
+                    T p = pedidos.get(i);
+                    long[] acc = local.computeIfAbsent(categoria.apply(p), k -> new long[2]);
+                    acc[0] = Math.addExact(acc[0], total.applyAsLong(p));
+                    acc[1]++;
+                }
+                return local;
+            }
+
+            int meio = (ini + fim) >>> 1;
+            Faixa<T> esquerda = new Faixa<>(pedidos, ini, meio, categoria, total);
+            esquerda.fork();
+            Map<String, long[]> direita = new Faixa<>(pedidos, meio, fim, categoria, total).compute();
+            return fundir(esquerda.join(), direita);
+
+        }
+
+        static Map<String, long[]> fundir(Map<String, long[]> a, Map<String, long[]> b) {
+            if (a.size() < b.size()) { Map<String, long[]> t = a; a = b; b = t; }
+            for (Map.Entry<String, long[]> e : b.entrySet()) {
+                long[] destino = a.get(e.getKey());
+                if (destino == null) {
+                    a.put(e.getKey(), e.getValue());
+                } else {
+                    destino[0] = Math.addExact(destino[0], e.getValue()[0]);
+                    destino[1] += e.getValue()[1];
+                }
+            }
+            return a;
+        }
+
+    }
+
+}
@@ -0,0 +1,403 @@
+package classesemetodos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * DiarioDeContas.java
+ *
+ * Diario append-only em arquivos mapeados em memoria para as operacoes de LivroDeContas.
+ * Saldos deixam de viver so na memoria  o diario eh reproduzido na subida.
+ *
+ * Conteudo
+ * 1) Registro de largura fixa  40 bytes little-endian
+ *      0  long  sequencia
+ *      8  long  valor em centavos
+ *     16  long  numero da conta  bytes 0..7 ASCII
+ *     24  long  numero da conta  bytes 8..15 ASCII  zeros a direita
+ *     32  byte  tipo  1 abertura  2 deposito  3 saque
+ *     33  3 bytes reservados
+ *     36  int   verificacao  mistura dos campos acima  detecta cauda rasgada
+ * 2) Segmentos  diario-000000.seg  000001 ...  cada um com 'registrosPorSegmento' posicoes
+ *    mapeados inteiros  cheio  force  proximo
+ * 3) Commit em grupo  anexar so escreve no mapa  confirmar(seq) garante durabilidade
+ *    a primeira thread faz um unico force da faixa suja  as que esperavam saem sem novo force
+ *    com loteFsync = N o proprio anexar confirma a cada N registros pendentes
+ * 4) Reproducao  leitura sequencial dos segmentos  soma por conta num mapa de chaves primitivas
+ *    sem criar String por registro  para no primeiro registro vazio  invalido ou fora de sequencia
+ * 5) Recuperacao  a cauda vale ate o primeiro registro que nao seja exatamente anterior + 1
+ *    tudo depois dela eh zerado e forcado antes de aceitar escrita  registros velhos de uma
+ *    escrita anterior mais longa nunca voltam a ser reproduzidos depois de um registro rasgado
+ *
+ * Regras
+ * - reabra sempre com o mesmo registrosPorSegmento  ele define o tamanho mapeado de cada arquivo
+ * - numero da conta com 1 a 16 caracteres ASCII  cabe em dois longs
+ * - o diario guarda apenas operacoes ja aceitas pelo livro  a reproducao so soma
+ *   por isso a ordem entre threads no diario nao altera o saldo final
+ */
+public final class DiarioDeContas implements AutoCloseable {
+
+    static final int TAMANHO_REGISTRO = 40;
+    static final byte ABERTURA = 1;
+    static final byte DEPOSITO = 2;
+    static final byte SAQUE = 3;
+
+    private final Path diretorio;
+    private final int registrosPorSegmento;
+    private final int loteFsync;
+
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final ReentrantLock sincronizacao = new ReentrantLock();
+
+    // protegidos por 'escrita'
+    private MappedByteBuffer segmento;
+    private int indiceSegmento;
+    private int posicao;
+    private int forcadoAte;
+    private long proximaSequencia;
+
+    // ultima sequencia garantida em disco  so cresce
+    private final AtomicLong duravel = new AtomicLong();
+
+    private DiarioDeContas(Path diretorio, int registrosPorSegmento, int loteFsync) {
+        this.diretorio = diretorio;
+        this.registrosPorSegmento = registrosPorSegmento;
+        this.loteFsync = loteFsync;
+    }
+
+    /* 1) ABERTURA E RECUPERACAO */
+
+    public static DiarioDeContas abrir(Path diretorio, int registrosPorSegmento, int loteFsync) throws IOException {
+
+        if (registrosPorSegmento <= 0 || (long) registrosPorSegmento * TAMANHO_REGISTRO > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("registros por segmento invalido");
+        }
+        if (loteFsync <= 0) throw new IllegalArgumentException("lote invalido");
+        Files.createDirectories(diretorio);
+
+        DiarioDeContas d = new DiarioDeContas(diretorio, registrosPorSegmento, loteFsync);
+        List<Path> existentes = segmentos(diretorio);
+        if (existentes.isEmpty()) {
+            d.mapear(0);
+            d.proximaSequencia = 1;
+        } else {
+            // apenas o ultimo segmento pode estar incompleto  os anteriores foram forcados cheios ao rolar
+            long anterior = existentes.size() > 1 ? ultimaSequencia(existentes.get(existentes.size() - 2)) : 0;
+            d.mapear(existentes.size() - 1);
+            int pos = cauda(d.segmento, d.segmento.capacity(), anterior + 1);
+            long ultima = anterior + pos / TAMANHO_REGISTRO;
+            // zera o que sobrou depois da cauda  e forca antes que novos registros reusem essas sequencias
+            for (int z = pos; z < d.segmento.capacity(); z += TAMANHO_REGISTRO) {
+                for (int c = 0; c < TAMANHO_REGISTRO; c += 8) d.segmento.putLong(z + c, 0);
+            }
+            if (pos < d.segmento.capacity()) d.segmento.force(pos, d.segmento.capacity() - pos);
+            d.posicao = pos;
+            d.forcadoAte = pos;
+            d.proximaSequencia = ultima + 1;
+        }
+        d.duravel.set(d.proximaSequencia - 1);
+        return d;
+
+    }
+
+    /* 2) ESCRITA */
+
+    public long registrarAbertura(String numero, long saldoInicial) { return anexar(ABERTURA, numero, saldoInicial); }
+    public long registrarDeposito(String numero, long valor) { return anexar(DEPOSITO, numero, valor); }
+    public long registrarSaque(String numero, long valor) { return anexar(SAQUE, numero, valor); }
+
+    // aplica no livro e so entao registra  operacao recusada nunca chega ao diario
+    public long depositar(LivroDeContas livro, String numero, long valor) {
+        livro.deposito(numero, valor);
+        return registrarDeposito(numero, valor);
+    }
+
+    public long sacar(LivroDeContas livro, String numero, long valor) {
+        livro.saque(numero, valor);
+        return registrarSaque(numero, valor);
+    }
+
+    public long abrirConta(LivroDeContas livro, String numero, long saldoInicial) {
+        livro.abrir(numero, saldoInicial);
+        return registrarAbertura(numero, saldoInicial);
+    }
+
+    long anexar(byte tipo, String numero, long valor) {
+
+        if (valor < 0) throw new IllegalArgumentException("valor invalido");
+        long a = empacotar(numero, 0);
+        long b = empacotar(numero, 8);
+        long seq;
+        escrita.lock();
+        try {
+            if (posicao == segmento.capacity()) rolar();
+            seq = proximaSequencia++;
+            MappedByteBuffer s = segmento;
+            int p = posicao;
+            s.putLong(p, seq);
+            s.putLong(p + 8, valor);
+            s.putLong(p + 16, a);
+            s.putLong(p + 24, b);
+            s.putInt(p + 32, tipo & 0xFF);
+            s.putInt(p + 36, verificacao(seq, valor, a, b, tipo));
+            posicao = p + TAMANHO_REGISTRO;
+        } finally {
+            escrita.unlock();
+        }
+        if (seq - duravel.get() >= loteFsync) confirmar(seq);
+        return seq;
+
+    }
+
+    /* 3) COMMIT EM GRUPO */
+
+    // volta quando tudo ate 'seq' estiver em disco
+    public void confirmar(long seq) {
+
+        if (duravel.get() >= seq) return;
+        sincronizacao.lock();
+        try {
+            if (duravel.get() >= seq) return;     // outra thread ja forcou por nos
+            MappedByteBuffer alvo;
+            int ini, fim;
+            long ultima;
+            escrita.lock();
+            try {
+                alvo = segmento;
+                ini = forcadoAte;
+                fim = posicao;
+                ultima = proximaSequencia - 1;
+                forcadoAte = fim;
+            } finally {
+                escrita.unlock();
+            }
+            // force fora da trava de escrita  anexadores seguem escrevendo enquanto o disco trabalha
+            if (fim > ini) alvo.force(ini, fim - ini);
+            duravel.accumulateAndGet(ultima, Math::max);
+        } finally {
+            sincronizacao.unlock();
+        }
+
+    }
+
+    public void sincronizar() {
+        escrita.lock();
+        long ultima;
+        try {
+            ultima = proximaSequencia - 1;
+        } finally {
+            escrita.unlock();
+        }
+        confirmar(ultima);
+    }
+
+    public long ultimaSequenciaDuravel() { return duravel.get(); }
+
+    // chamado com 'escrita' travada  sem tocar em 'sincronizacao'  que trava na ordem inversa
+    // force do segmento inteiro  cobre tambem uma faixa que confirmar ainda esteja forcando
+    private void rolar() {
+        segmento.force();
+        duravel.accumulateAndGet(proximaSequencia - 1, Math::max);
+        mapear(indiceSegmento + 1);
+        posicao = 0;
+        forcadoAte = 0;
+    }
+
+    /* 4) REPRODUCAO */
+
+    // saldo final por conta  na ordem em que as contas apareceram  devolve registros lidos
+    public static long reproduzir(Path diretorio, ObjLongConsumer<String> porConta) throws IOException {
+
+        Saldos saldos = new Saldos(1 << 10);
+        long lidos = 0;
+        for (Path arquivo : segmentos(diretorio)) {
+            try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                MappedByteBuffer s = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                s.order(ByteOrder.LITTLE_ENDIAN);
+                int fim = s.capacity() - TAMANHO_REGISTRO;
+                int pos = 0;
+                for (; pos <= fim && registroValido(s, pos, lidos + 1); pos += TAMANHO_REGISTRO) {
+                    long valor = s.getLong(pos + 8);
+                    byte tipo = s.get(pos + 32);
+                    saldos.somar(s.getLong(pos + 16), s.getLong(pos + 24), tipo == SAQUE ? -valor : valor);
+                    lidos++;
+                }
+                if (pos <= fim) break;      // cauda do ultimo segmento escrito
+            }
+        }
+        saldos.paraCada(porConta);
+        return lidos;
+
+    }
+
+    public static LivroDeContas reconstruir(Path diretorio) throws IOException {
+        LivroDeContas livro = new LivroDeContas();
+        reproduzir(diretorio, livro::abrir);
+        return livro;
+    }
+
+    @Override
+    public void close() {
+        sincronizar();
+    }
+
+    /* APOIO */
+
+    private void mapear(int indice) {
+        try (FileChannel ch = FileChannel.open(arquivo(indice),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmento = ch.map(FileChannel.MapMode.READ_WRITE, 0, (long) registrosPorSegmento * TAMANHO_REGISTRO);
+            segmento.order(ByteOrder.LITTLE_ENDIAN);
+            indiceSegmento = indice;
+        } catch (IOException e) {
+            throw new UncheckedIOException("falha ao mapear segmento " + indice, e);
+        }
+    }
+
+    private Path arquivo(int indice) {
+        return diretorio.resolve(String.format("diario-%06d.seg", indice));
+    }
+
+    private static List<Path> segmentos(Path diretorio) throws IOException {
+        if (!Files.isDirectory(diretorio)) return List.of();
+        try (Stream<Path> s = Files.list(diretorio)) {
+            return s.filter(p -> p.getFileName().toString().matches("diario-\\d{6}\\.seg")).sorted().toList();
+        }
+    }
+
+    private static long ultimaSequencia(Path arquivo) throws IOException {
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            MappedByteBuffer s = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            s.order(ByteOrder.LITTLE_ENDIAN);
+            int pos = (int) (ch.size() / TAMANHO_REGISTRO - 1) * TAMANHO_REGISTRO;
+            while (pos >= 0 && !registroValido(s, pos, s.getLong(pos))) pos -= TAMANHO_REGISTRO;
+            return pos < 0 ? 0 : s.getLong(pos);
+        }
+    }
+
+    // posicao do primeiro registro invalido ou cuja sequencia nao seja a anterior + 1
+    private static int cauda(MappedByteBuffer s, int capacidade, long esperada) {
+        int pos = 0;
+        while (pos + TAMANHO_REGISTRO <= capacidade && registroValido(s, pos, esperada)) {
+            pos += TAMANHO_REGISTRO;
+            esperada++;
+        }
+        return pos;
+    }
+
+    private static boolean registroValido(MappedByteBuffer s, int pos, long esperada) {
+        long seq = s.getLong(pos);
+        byte tipo = s.get(pos + 32);
+        if (seq != esperada || seq <= 0 || tipo < ABERTURA || tipo > SAQUE) return false;
+        return s.getInt(pos + 36) == verificacao(seq, s.getLong(pos + 8), s.getLong(pos + 16), s.getLong(pos + 24), tipo);
+    }
+
+    static int verificacao(long seq, long valor, long a, long b, byte tipo) {
+        long h = misturar(seq ^ 0x9E3779B97F4A7C15L);
+        h = misturar(h ^ valor);
+        h = misturar(h ^ a);
+        h = misturar(h ^ b);
+        h = misturar(h ^ tipo);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long misturar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 8 chars ASCII a partir de 'ini' num long little-endian  posicoes vazias ficam zero
+    static long empacotar(String numero, int ini) {
+        Objects.requireNonNull(numero, "numero");
+        int n = numero.length();
+        if (n == 0 || n > 16) throw new IllegalArgumentException("numero deve ter de 1 a 16 caracteres ASCII");
+        long v = 0;
+        for (int i = Math.min(n, ini + 8) - 1; i >= ini; i--) {
+            char c = numero.charAt(i);
+            if (c == 0 || c > 0x7F) throw new IllegalArgumentException("numero deve ter de 1 a 16 caracteres ASCII");
+            v = (v << 8) | c;
+        }
+        return v;
+    }
+
+    static String desempacotar(long a, long b) {
+        char[] cs = new char[16];
+        int n = 0;
+        for (long v : new long[]{a, b}) {
+            for (int i = 0; i < 8 && (v & 0xFF) != 0; i++, v >>>= 8) cs[n++] = (char) (v & 0xFF);
+        }
+        return new String(cs, 0, n);
+    }
+
+    // enderecamento aberto  chave (a  b)  a != 0 para qualquer numero valido  0 marca posicao livre
+    static final class Saldos {
+
+        private long[] chaveA;
+        private long[] chaveB;
+        private long[] saldo;
+        private int[] ordem;
+        private int tamanho;
+
+        Saldos(int capacidade) {
+            int c = Integer.highestOneBit(Math.max(16, capacidade) - 1) << 1;
+            chaveA = new long[c];
+            chaveB = new long[c];
+            saldo = new long[c];
+            ordem = new int[c];
+        }
+
+        void somar(long a, long b, long delta) {
+            int mascara = chaveA.length - 1;
+            int i = (int) misturar(a * 31 + b) & mascara;
+            while (chaveA[i] != 0) {
+                if (chaveA[i] == a && chaveB[i] == b) {
+                    saldo[i] = Math.addExact(saldo[i], delta);
+                    return;
+                }
+                i = (i + 1) & mascara;
+            }
+            chaveA[i] = a;
+            chaveB[i] = b;
+            saldo[i] = delta;
+            ordem[tamanho++] = i;
+            if (tamanho * 2 > chaveA.length) crescer();
+        }
+
+        void paraCada(ObjLongConsumer<String> consumidor) {
+            for (int k = 0; k < tamanho; k++) {
+                int i = ordem[k];
+                consumidor.accept(desempacotar(chaveA[i], chaveB[i]), saldo[i]);
+            }
+        }
+
+        private void crescer() {
+            long[] a = chaveA, b = chaveB, s = saldo;
+            int[] o = ordem;
+            int n = tamanho;
+            chaveA = new long[a.length * 2];
+            chaveB = new long[a.length * 2];
+            saldo = new long[a.length * 2];
+            ordem = new int[a.length * 2];
+            tamanho = 0;
+            for (int k = 0; k < n; k++) {
+                int i = o[k];
+                somar(a[i], b[i], s[i]);
+            }
+        }
+
+    }
+
+}
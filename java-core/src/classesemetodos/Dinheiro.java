@@ -0,0 +1,110 @@
+package classesemetodos;
+
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Dinheiro.java
+ *
+ * Objeto de valor unico para quantias em centavos  substitui as duas copias aninhadas
+ * que existiam em ClassesResumo e ClassesVsObjetosResumo.
+ *
+ * Conteudo
+ * 1) Imutavel e baseado em valor  equals  hashCode e compareTo pelos centavos
+ * 2) Invariante  nunca negativo  como nas versoes anteriores
+ * 3) Aritmetica checada  addExact  subtractExact  multiplyExact  estouro vira ArithmeticException
+ * 4) Escala e percentual com RoundingMode  sem BigDecimal  mesma regra de BigDecimal.divide
+ * 5) Para milhoes de quantias use VetorDeDinheiro  long[] sem um objeto por valor
+ */
+public final class Dinheiro implements Comparable<Dinheiro> {
+
+    public static final Dinheiro ZERO = new Dinheiro(0);
+
+    // percentuais em pontos base  1% = 100  100% = 10_000
+    static final long BASE_PERCENTUAL = 10_000;
+
+    private final long centavos;
+
+    private Dinheiro(long centavos) {
+        if (centavos < 0) throw new IllegalArgumentException("valor negativo");
+        this.centavos = centavos;
+    }
+
+    public static Dinheiro deCentavos(long centavos) {
+        return centavos == 0 ? ZERO : new Dinheiro(centavos);
+    }
+
+    public long centavos() { return centavos; }
+
+    public Dinheiro acrescentar(long c) {
+        return c == 0 ? this : deCentavos(Math.addExact(centavos, c));
+    }
+
+    public Dinheiro somar(Dinheiro outro) {
+        return acrescentar(outro.centavos);
+    }
+
+    public Dinheiro subtrair(Dinheiro outro) {
+        return outro.centavos == 0 ? this : deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro multiplicar(long quantidade) {
+        return deCentavos(Math.multiplyExact(centavos, quantidade));
+    }
+
+    // centavos * numerador / denominador  arredondado pelo modo informado
+    public Dinheiro escalar(long numerador, long denominador, RoundingMode modo) {
+        return deCentavos(dividir(Math.multiplyExact(centavos, numerador), denominador, modo));
+    }
+
+    // fatia percentual do valor  ex.: percentual(1_575, HALF_UP) = 15,75%
+    public Dinheiro percentual(long pontosBase, RoundingMode modo) {
+        return escalar(pontosBase, BASE_PERCENTUAL, modo);
+    }
+
+    @Override
+    public int compareTo(Dinheiro o) { return Long.compare(centavos, o.centavos); }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Dinheiro d && d.centavos == centavos);
+    }
+
+    @Override
+    public int hashCode() { return Long.hashCode(centavos); }
+
+    @Override
+    public String toString() {
+        return FormatadorMonetario.formatar(centavos, FormatadorMonetario.Layout.PT_BR);
+    }
+
+    /* divisao inteira com arredondamento  compartilhada com VetorDeDinheiro */
+
+    static long dividir(long dividendo, long divisor, RoundingMode modo) {
+
+        if (divisor <= 0) throw new IllegalArgumentException("divisor deve ser positivo");
+        Objects.requireNonNull(modo, "modo");
+        long q = dividendo / divisor;
+        long resto = dividendo - q * divisor;
+        if (resto == 0) return q;
+
+        // divisor positivo  o sinal do quociente eh o do dividendo
+        int sinal = dividendo < 0 ? -1 : 1;
+        long absResto = Math.abs(resto);
+        boolean afastarDoZero = switch (modo) {
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> sinal < 0;
+            case CEILING -> sinal > 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                int cmp = Long.compare(absResto, divisor - absResto);
+                yield cmp > 0 || (cmp == 0 && (modo == RoundingMode.HALF_UP
+                        || (modo == RoundingMode.HALF_EVEN && (q & 1) != 0)));
+            }
+            case UNNECESSARY -> throw new ArithmeticException("arredondamento necessario");
+        };
+        return afastarDoZero ? q + sinal : q;
+
+    }
+
+}
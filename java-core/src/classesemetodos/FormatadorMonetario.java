@@ -0,0 +1,140 @@
+package classesemetodos;
+
+import java.util.Objects;
+
+/**
+ * FormatadorMonetario.java
+ *
+ * Formata centavos (long) como dinheiro sem Formatter  sem String.format e sem NumberFormat.
+ * Usado pelo toString de Dinheiro e por quem renderiza muitas linhas de fatura.
+ *
+ * Conteudo
+ * 1) Layouts  PT_BR  R$ 1.234,56   EN_US  $1,234.56   negativos com '-' antes do simbolo
+ * 2) Destinos  StringBuilder  char[] e byte[] ASCII fornecidos por quem chama  zero alocacao
+ * 3) tamanho  quantos chars serao escritos  para dimensionar buffers
+ * 4) Escrita de tras para frente  digitos  agrupamento de milhar  sem buffer temporario
+ *
+ * Cobre todo o intervalo de long  inclusive Long.MIN_VALUE.
+ */
+public final class FormatadorMonetario {
+
+    public enum Layout {
+
+        PT_BR("R$ ", '.', ','),
+        EN_US("$", ',', '.');
+
+        private final String simbolo;
+        private final char milhar;
+        private final char decimal;
+
+        Layout(String simbolo, char milhar, char decimal) {
+            this.simbolo = simbolo;
+            this.milhar = milhar;
+            this.decimal = decimal;
+        }
+
+    }
+
+    private FormatadorMonetario() {
+    }
+
+    // 1) conveniencia  aloca so a String final
+    public static String formatar(long centavos, Layout layout) {
+        return formatar(centavos, layout, new StringBuilder(tamanho(centavos, layout))).toString();
+    }
+
+    // 2) StringBuilder reaproveitado  anexa ao final
+    public static StringBuilder formatar(long centavos, Layout layout, StringBuilder destino) {
+
+        int n = tamanho(centavos, layout);
+        int ini = destino.length();
+        destino.setLength(ini + n);
+        long reais = Math.abs(centavos / 100);
+        int cents = (int) Math.abs(centavos % 100);
+
+        int pos = ini + n;
+        destino.setCharAt(--pos, (char) ('0' + cents % 10));
+        destino.setCharAt(--pos, (char) ('0' + cents / 10));
+        destino.setCharAt(--pos, layout.decimal);
+        int grupo = 0;
+        do {
+            if (grupo++ == 3) {
+                destino.setCharAt(--pos, layout.milhar);
+                grupo = 1;
+            }
+            destino.setCharAt(--pos, (char) ('0' + (int) (reais % 10)));
+            reais /= 10;
+        } while (reais != 0);
+        for (int i = layout.simbolo.length() - 1; i >= 0; i--) destino.setCharAt(--pos, layout.simbolo.charAt(i));
+        if (centavos < 0) destino.setCharAt(--pos, '-');
+        return destino;
+
+    }
+
+    // 3) char[]  devolve a posicao logo apos o ultimo char escrito
+    public static int formatar(long centavos, Layout layout, char[] destino, int offset) {
+
+        int n = tamanho(centavos, layout);
+        Objects.checkFromIndexSize(offset, n, destino.length);
+        long reais = Math.abs(centavos / 100);
+        int cents = (int) Math.abs(centavos % 100);
+
+        int pos = offset + n;
+        destino[--pos] = (char) ('0' + cents % 10);
+        destino[--pos] = (char) ('0' + cents / 10);
+        destino[--pos] = layout.decimal;
+        int grupo = 0;
+        do {
+            if (grupo++ == 3) {
+                destino[--pos] = layout.milhar;
+                grupo = 1;
+            }
+            destino[--pos] = (char) ('0' + (int) (reais % 10));
+            reais /= 10;
+        } while (reais != 0);
+        for (int i = layout.simbolo.length() - 1; i >= 0; i--) destino[--pos] = layout.simbolo.charAt(i);
+        if (centavos < 0) destino[--pos] = '-';
+        return offset + n;
+
+    }
+
+    // 4) byte[] ASCII  pronto para um buffer de saida  devolve a posicao final
+    public static int formatar(long centavos, Layout layout, byte[] destino, int offset) {
+
+        int n = tamanho(centavos, layout);
+        Objects.checkFromIndexSize(offset, n, destino.length);
+        long reais = Math.abs(centavos / 100);
+        int cents = (int) Math.abs(centavos % 100);
+
+        int pos = offset + n;
+        destino[--pos] = (byte) ('0' + cents % 10);
+        destino[--pos] = (byte) ('0' + cents / 10);
+        destino[--pos] = (byte) layout.decimal;
+        int grupo = 0;
+        do {
+            if (grupo++ == 3) {
+                destino[--pos] = (byte) layout.milhar;
+                grupo = 1;
+            }
+            destino[--pos] = (byte) ('0' + (int) (reais % 10));
+            reais /= 10;
+        } while (reais != 0);
+        for (int i = layout.simbolo.length() - 1; i >= 0; i--) destino[--pos] = (byte) layout.simbolo.charAt(i);
+        if (centavos < 0) destino[--pos] = '-';
+        return offset + n;
+
+    }
+
+    // sinal + simbolo + digitos dos reais + separadores de milhar + decimal + 2 casas
+    public static int tamanho(long centavos, Layout layout) {
+        int digitos = digitos(Math.abs(centavos / 100));
+        return (centavos < 0 ? 1 : 0) + layout.simbolo.length() + digitos + (digitos - 1) / 3 + 3;
+    }
+
+    private static int digitos(long v) {
+        int d = 1;
+        for (long limite = 10; d < 19 && v >= limite; limite *= 10) d++;
+        return d;
+    }
+
+}
@@ -0,0 +1,127 @@
+package classesemetodos;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LivroDeContas.java
+ *
+ * Versao concorrente de MetodosResumo.Conta  contas indexadas por numero e seguras sob carga.
+ *
+ * Conteudo
+ * 1) Mapa  ConcurrentHashMap de numero para ContaAtomica  abertura com putIfAbsent
+ * 2) deposito e saque sem lock  laco de CAS sobre AtomicLong
+ *    o saque so confirma se o saldo lido cobre o valor  invariante "saldo insuficiente" preservada
+ * 3) transferir  trava as duas contas em ordem fixa de numero  sem deadlock entre A->B e B->A
+ *    debito e credito com CAS dentro das travas  ou acontecem os dois ou nenhum
+ *    credito que estouraria o saldo do destino desfaz o debito e relanca o ArithmeticException
+ * 4) Mesmas excecoes de Conta  IllegalArgumentException para valor  IllegalStateException para saldo
+ *
+ * Observacao
+ * - as travas ordenam transferencias entre si  deposito e saque avulsos continuam sem lock
+ *   e por isso um leitor pode ver o debito de uma transferencia antes do credito
+ * - saldoTotal soma conta a conta  nao eh um retrato atomico do livro
+ */
+public final class LivroDeContas {
+
+    private final ConcurrentHashMap<String, ContaAtomica> contas = new ConcurrentHashMap<>();
+
+    public ContaAtomica abrir(String numero, long saldoInicialCentavos) {
+        ContaAtomica nova = new ContaAtomica(numero, saldoInicialCentavos);
+        if (contas.putIfAbsent(numero, nova) != null) throw new IllegalStateException("conta ja existe " + numero);
+        return nova;
+    }
+
+    public ContaAtomica conta(String numero) {
+        ContaAtomica c = contas.get(Objects.requireNonNull(numero, "numero"));
+        if (c == null) throw new IllegalArgumentException("conta inexistente " + numero);
+        return c;
+    }
+
+    public int quantidade() { return contas.size(); }
+
+    public long saldo(String numero) { return conta(numero).saldoCentavos(); }
+
+    public void deposito(String numero, long v) { conta(numero).deposito(v); }
+
+    public void saque(String numero, long v) { conta(numero).saque(v); }
+
+    public void transferir(String origem, String destino, long v) {
+
+        if (v <= 0) throw new IllegalArgumentException("valor invalido");
+        ContaAtomica de = conta(origem);
+        ContaAtomica para = conta(destino);
+        if (de == para) throw new IllegalArgumentException("origem e destino iguais");
+
+        // ordem global por numero  duas transferencias cruzadas nunca esperam uma pela outra em ciclo
+        ContaAtomica primeira = de.numero.compareTo(para.numero) < 0 ? de : para;
+        ContaAtomica segunda = primeira == de ? para : de;
+        primeira.trava.lock();
+        try {
+            segunda.trava.lock();
+            try {
+                de.saque(v);
+                try {
+                    para.deposito(v);
+                } catch (ArithmeticException estouro) {
+                    // credito estourou long  devolve o debito  a transferencia nao acontece
+                    de.deposito(v);
+                    throw estouro;
+                }
+            } finally {
+                segunda.trava.unlock();
+            }
+        } finally {
+            primeira.trava.unlock();
+        }
+
+    }
+
+    public long saldoTotal() {
+        long total = 0;
+        for (ContaAtomica c : contas.values()) total = Math.addExact(total, c.saldoCentavos());
+        return total;
+    }
+
+    public static final class ContaAtomica {
+
+        private final String numero;
+        private final AtomicLong saldo;
+        private final ReentrantLock trava = new ReentrantLock();
+
+        ContaAtomica(String numero, long saldoCentavos) {
+            if (numero == null || numero.isBlank()) throw new IllegalArgumentException("numero invalido");
+            if (saldoCentavos < 0) throw new IllegalArgumentException("saldo negativo");
+            this.numero = numero;
+            this.saldo = new AtomicLong(saldoCentavos);
+        }
+
+        public String numero() { return numero; }
+
+        public long saldoCentavos() { return saldo.get(); }
+
+        public void deposito(long v) {
+            if (v <= 0) throw new IllegalArgumentException("valor invalido");
+            long atual;
+            do {
+                atual = saldo.get();
+            } while (!saldo.compareAndSet(atual, Math.addExact(atual, v)));
+        }
+
+        public void saque(long v) {
+            if (v <= 0) throw new IllegalArgumentException("valor invalido");
+            long atual;
+            do {
+                atual = saldo.get();
+                if (v > atual) throw new IllegalStateException("saldo insuficiente");
+            } while (!saldo.compareAndSet(atual, atual - v));
+        }
+
+        @Override
+        public String toString() { return "Conta  " + numero + "  " + saldo.get(); }
+
+    }
+
+}
@@ -1,5 +1,8 @@
 package classesemetodos;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
 
@@ -143,6 +146,35 @@ public class MetodosResumo {
             System.out.println("bloqueio de saque por saldo insuficiente");
         }
 
+        // Conta nao eh thread-safe  sob concorrencia use o LivroDeContas
+        LivroDeContas livro = new LivroDeContas();
+        livro.abrir("123", 10_00);
+        livro.abrir("456", 0);
+        Thread[] ts = new Thread[4];
+        for (int i = 0; i < ts.length; i++) {
+            ts[i] = new Thread(() -> { for (int k = 0; k < 1_000; k++) livro.deposito("123", 1); });
+            ts[i].start();
+        }
+        for (Thread t : ts) {
+            try { t.join(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        }
+        livro.transferir("123", "456", 5_00);
+        System.out.println("saldos apos 4000 depositos concorrentes e transferencia  " + livro.saldo("123") + "  " + livro.saldo("456"));
+
+        // saldos que sobrevivem ao processo  cada operacao aceita vai para o diario e eh reproduzida na subida
+        try {
+            Path dir = Files.createTempDirectory("diario");
+            LivroDeContas persistido = new LivroDeContas();
+            try (DiarioDeContas diario = DiarioDeContas.abrir(dir, 1_024, 16)) {
+                diario.abrirConta(persistido, "789", 10_00);
+                diario.depositar(persistido, "789", 2_50);
+                diario.sacar(persistido, "789", 1_00);
+            }
+            System.out.println("saldo reconstruido do diario  " + DiarioDeContas.reconstruir(dir).saldo("789"));
+        } catch (IOException e) {
+            System.out.println("diario indisponivel  " + e.getMessage());
+        }
+
     }
 
     // 7) Retorno  Optional em vez de null
@@ -0,0 +1,113 @@
+package classesemetodos;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * PedidoColunar.java
+ *
+ * Representacao alternativa de ClassesVsObjetosResumo.Pedido para pedidos com dezenas de milhares
+ * de linhas e reprecificacao em lote  arrays paralelos no lugar de um objeto Item por linha.
+ *
+ * Conteudo
+ * 1) Colunas  nomes  precos (long centavos) e quantidades (int)  linha i = posicao i
+ * 2) totalCentavos com deteccao de estouro
+ *    - maior preco e maior quantidade sao mantidos na insercao
+ *    - se maiorPreco * maiorQtd * linhas cabe em long o laco soma sem checagens  C2 vetoriza
+ *    - senao cai no laco com multiplyExact e addExact  estouro vira ArithmeticException
+ * 3) reajustar  reprecifica todas as linhas por pontos base  mesma regra de arredondamento de Dinheiro
+ * 4) de(Pedido)  converte o layout de objetos
+ */
+public final class PedidoColunar {
+
+    private final ClassesVsObjetosResumo.Cliente cliente;
+    private String[] nomes;
+    private long[] precos;
+    private int[] qtds;
+    private int linhas;
+    private long maiorPreco;
+    private int maiorQtd;
+
+    public PedidoColunar(ClassesVsObjetosResumo.Cliente cliente, int capacidade) {
+        this.cliente = Objects.requireNonNull(cliente);
+        this.nomes = new String[capacidade];
+        this.precos = new long[capacidade];
+        this.qtds = new int[capacidade];
+    }
+
+    static PedidoColunar de(ClassesVsObjetosResumo.Pedido pedido) {
+        PedidoColunar p = new PedidoColunar(pedido.cliente(), pedido.itens().size());
+        for (ClassesVsObjetosResumo.Item i : pedido.itens()) p.adicionarItem(i.nome(), i.precoCentavos(), i.qtd());
+        return p;
+    }
+
+    /* 1) COLUNAS */
+
+    // mesmas validacoes de Item
+    public void adicionarItem(String nome, long precoCentavos, int qtd) {
+        if (nome == null || nome.isBlank()) throw new IllegalArgumentException("nome invalido");
+        if (precoCentavos < 0 || qtd <= 0) throw new IllegalArgumentException("valores invalidos");
+        if (linhas == precos.length) crescer();
+        nomes[linhas] = nome;
+        precos[linhas] = precoCentavos;
+        qtds[linhas] = qtd;
+        linhas++;
+        maiorPreco = Math.max(maiorPreco, precoCentavos);
+        maiorQtd = Math.max(maiorQtd, qtd);
+    }
+
+    public ClassesVsObjetosResumo.Cliente cliente() { return cliente; }
+    public int linhas() { return linhas; }
+    public String nome(int i) { Objects.checkIndex(i, linhas); return nomes[i]; }
+    public long precoCentavos(int i) { Objects.checkIndex(i, linhas); return precos[i]; }
+    public int qtd(int i) { Objects.checkIndex(i, linhas); return qtds[i]; }
+
+    /* 2) TOTAL */
+
+    public long totalCentavos() {
+        return cabeEmLong() ? somaLivre(precos, qtds, linhas) : somaExata(precos, qtds, linhas);
+    }
+
+    // maiorPreco * maiorQtd * linhas < 2^63  nenhuma soma parcial pode estourar
+    boolean cabeEmLong() {
+        long porLinha = maiorPreco * maiorQtd;
+        if (Math.multiplyHigh(maiorPreco, maiorQtd) != 0 || porLinha < 0) return false;
+        return Math.multiplyHigh(porLinha, linhas) == 0 && porLinha * linhas >= 0;
+    }
+
+    // laco contado sem desvios  candidato a auto-vetorizacao pelo C2
+    static long somaLivre(long[] precos, int[] qtds, int n) {
+        long soma = 0;
+        for (int i = 0; i < n; i++) soma += precos[i] * qtds[i];
+        return soma;
+    }
+
+    static long somaExata(long[] precos, int[] qtds, int n) {
+        long soma = 0;
+        for (int i = 0; i < n; i++) soma = Math.addExact(soma, Math.multiplyExact(precos[i], qtds[i]));
+        return soma;
+    }
+
+    /* 3) REPRECIFICACAO EM LOTE */
+
+    // ex.: reajustar(10_500, HALF_UP) aplica +5% em todas as linhas
+    public void reajustar(long pontosBase, RoundingMode modo) {
+        if (pontosBase < 0) throw new IllegalArgumentException("reajuste negativo");
+        long maior = 0;
+        for (int i = 0; i < linhas; i++) {
+            long novo = Dinheiro.dividir(Math.multiplyExact(precos[i], pontosBase), Dinheiro.BASE_PERCENTUAL, modo);
+            precos[i] = novo;
+            maior = Math.max(maior, novo);
+        }
+        maiorPreco = maior;
+    }
+
+    private void crescer() {
+        int nova = Math.max(8, linhas + (linhas >> 1));
+        nomes = Arrays.copyOf(nomes, nova);
+        precos = Arrays.copyOf(precos, nova);
+        qtds = Arrays.copyOf(qtds, nova);
+    }
+
+}
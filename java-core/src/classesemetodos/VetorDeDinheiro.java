@@ -0,0 +1,173 @@
+package classesemetodos;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * VetorDeDinheiro.java
+ *
+ * Coluna de quantias em centavos sobre um long[]  companheiro de Dinheiro para operacoes em lote.
+ * Um milhao de valores ocupa 8 MB contiguos  contra um objeto Dinheiro por valor.
+ *
+ * Conteudo
+ * 1) Armazenamento  long[] que cresce ao adicionar  acesso primitivo por indice
+ * 2) soma  com deteccao de estouro como Math.addExact
+ * 3) escalar  percentual  arredondar  in-place ou para um destino reaproveitado  sem alocacao por valor
+ * 4) Paralelo opcional  a partir de um limiar  blocos contiguos em ForkJoinPool.commonPool
+ *
+ * Diferente de Dinheiro  a coluna aceita valores negativos (estornos  descontos)
+ * e so valida a invariante ao converter um elemento com dinheiro(i).
+ */
+public final class VetorDeDinheiro {
+
+    // abaixo disso o custo de dividir o trabalho supera o ganho
+    static final int BLOCO_PARALELO = 1 << 16;
+
+    private long[] centavos;
+    private int tamanho;
+    private int limiarParalelo = Integer.MAX_VALUE;
+
+    public VetorDeDinheiro(int capacidade) {
+        if (capacidade < 0) throw new IllegalArgumentException("capacidade negativa");
+        this.centavos = new long[capacidade];
+    }
+
+    // adota o array sem copiar  quem chama nao deve mais altera-lo
+    public static VetorDeDinheiro deCentavos(long... valores) {
+        VetorDeDinheiro v = new VetorDeDinheiro(0);
+        v.centavos = Objects.requireNonNull(valores);
+        v.tamanho = valores.length;
+        return v;
+    }
+
+    /* 1) ARMAZENAMENTO */
+
+    public int tamanho() { return tamanho; }
+
+    public long centavos(int i) {
+        Objects.checkIndex(i, tamanho);
+        return centavos[i];
+    }
+
+    public void definir(int i, long valor) {
+        Objects.checkIndex(i, tamanho);
+        centavos[i] = valor;
+    }
+
+    public Dinheiro dinheiro(int i) { return Dinheiro.deCentavos(centavos(i)); }
+
+    public VetorDeDinheiro adicionar(long valor) {
+        if (tamanho == centavos.length) centavos = Arrays.copyOf(centavos, Math.max(8, tamanho + (tamanho >> 1)));
+        centavos[tamanho++] = valor;
+        return this;
+    }
+
+    public VetorDeDinheiro adicionar(Dinheiro d) { return adicionar(d.centavos()); }
+
+    public void limpar() { tamanho = 0; }
+
+    // operacoes em lote viram paralelas quando tamanho >= limiar  padrao desligado
+    public VetorDeDinheiro usarParaleloAPartirDe(int limiar) {
+        if (limiar <= 0) throw new IllegalArgumentException("limiar invalido");
+        this.limiarParalelo = limiar;
+        return this;
+    }
+
+    /* 2) SOMA */
+
+    public long soma() {
+        if (!paralelo()) return somar(centavos, 0, tamanho);
+        return IntStream.range(0, blocos()).parallel()
+                .mapToLong(b -> somar(centavos, b * BLOCO_PARALELO, Math.min(tamanho, (b + 1) * BLOCO_PARALELO)))
+                .reduce(0, Math::addExact);
+    }
+
+    public Dinheiro total() { return Dinheiro.deCentavos(soma()); }
+
+    private static long somar(long[] v, int ini, int fim) {
+        long acc = 0;
+        for (int i = ini; i < fim; i++) acc = Math.addExact(acc, v[i]);
+        return acc;
+    }
+
+    /* 3) TRANSFORMACOES */
+
+    // cada valor vira valor * numerador / denominador
+    public VetorDeDinheiro escalar(long numerador, long denominador, RoundingMode modo) {
+        return escalarPara(this, numerador, denominador, modo);
+    }
+
+    // aplica um fator percentual  ex.: reajuste de 110% = percentual(11_000, HALF_UP)
+    public VetorDeDinheiro percentual(long pontosBase, RoundingMode modo) {
+        return escalar(pontosBase, Dinheiro.BASE_PERCENTUAL, modo);
+    }
+
+    // grava a fatia percentual em 'destino'  sem alterar este vetor  ex.: imposto de 15,75%
+    public VetorDeDinheiro percentualPara(VetorDeDinheiro destino, long pontosBase, RoundingMode modo) {
+        return escalarPara(destino, pontosBase, Dinheiro.BASE_PERCENTUAL, modo);
+    }
+
+    public VetorDeDinheiro escalarPara(VetorDeDinheiro destino, long numerador, long denominador, RoundingMode modo) {
+
+        if (denominador <= 0) throw new IllegalArgumentException("divisor deve ser positivo");
+        Objects.requireNonNull(modo, "modo");
+        destino.garantirTamanho(tamanho);
+        long[] origem = centavos;
+        long[] alvo = destino.centavos;
+        if (!paralelo()) {
+            escalarFaixa(origem, alvo, 0, tamanho, numerador, denominador, modo);
+        } else {
+            IntStream.range(0, blocos()).parallel().forEach(b -> escalarFaixa(origem, alvo,
+                    b * BLOCO_PARALELO, Math.min(tamanho, (b + 1) * BLOCO_PARALELO), numerador, denominador, modo));
+        }
+        return destino;
+
+    }
+
+    private static void escalarFaixa(long[] origem, long[] alvo, int ini, int fim, long num, long den, RoundingMode modo) {
+        for (int i = ini; i < fim; i++) alvo[i] = Dinheiro.dividir(Math.multiplyExact(origem[i], num), den, modo);
+    }
+
+    // arredonda cada valor ao multiplo de 'unidade' centavos  ex.: 5 para troco  100 para reais inteiros
+    public VetorDeDinheiro arredondar(long unidade, RoundingMode modo) {
+
+        if (unidade <= 0) throw new IllegalArgumentException("unidade invalida");
+        long[] v = centavos;
+        if (!paralelo()) {
+            arredondarFaixa(v, 0, tamanho, unidade, modo);
+        } else {
+            IntStream.range(0, blocos()).parallel().forEach(b ->
+                    arredondarFaixa(v, b * BLOCO_PARALELO, Math.min(tamanho, (b + 1) * BLOCO_PARALELO), unidade, modo));
+        }
+        return this;
+
+    }
+
+    private static void arredondarFaixa(long[] v, int ini, int fim, long unidade, RoundingMode modo) {
+        for (int i = ini; i < fim; i++) v[i] = Math.multiplyExact(Dinheiro.dividir(v[i], unidade, modo), unidade);
+    }
+
+    /* APOIO */
+
+    private boolean paralelo() { return tamanho >= limiarParalelo && tamanho > BLOCO_PARALELO; }
+
+    private int blocos() { return (tamanho + BLOCO_PARALELO - 1) / BLOCO_PARALELO; }
+
+    private void garantirTamanho(int n) {
+        if (centavos.length < n) centavos = Arrays.copyOf(centavos, n);
+        tamanho = n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("VetorDeDinheiro  ").append(tamanho).append(" valores  [");
+        for (int i = 0; i < Math.min(tamanho, 5); i++) {
+            if (i > 0) sb.append("; ");
+            FormatadorMonetario.formatar(centavos[i], FormatadorMonetario.Layout.PT_BR, sb);
+        }
+        return sb.append(tamanho > 5 ? "; ...]" : "]").toString();
+    }
+
+}
@@ -150,6 +150,13 @@ public class BreakContinueResumo {
         }
         if (!achou) System.out.println("alvo nao encontrado");
 
+        // consultas repetidas na mesma matriz  indice montado uma vez  sem varredura por consulta
+        MatrizDeInteiros indexada = MatrizDeInteiros.de(m).indexar();
+        for (int v : new int[]{5, 9, 42}) {
+            int p = indexada.buscar(v);
+            System.out.println("indice  " + v + (p < 0 ? "  ausente" : "  linha " + indexada.linhaDe(p) + "  coluna " + indexada.colunaDe(p)));
+        }
+
     }
 
     // 7) varredura de lista usando continue para filtrar
@@ -182,6 +189,16 @@ public class BreakContinueResumo {
             }
             System.out.println("avaliando  " + e.getKey());
         }
+
+        // mesma saida antecipada sobre um Placar  laco interno sem iterador
+        Placar placar = new Placar();
+        pontos.forEach(placar::colocar);
+        System.out.println("placar primitivo  alvo atingido por  " + placar.primeiraComValorAoMenos(alvo));
+
+        // pontos mudando o tempo todo  indice responde em O(log n) sem varrer
+        IndiceDePlacar indice = IndiceDePlacar.de(placar, 1_024);
+        indice.somar("Carla", 5);
+        System.out.println("indice  alvo atingido por  " + indice.primeiraComValorAoMenos(alvo) + "  topo 2  " + indice.topo(2));
     }
 
     // 9) switch classico usa break para evitar queda
@@ -0,0 +1,106 @@
+package estruturasdecontrole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DespachoPorTipo.java
+ *
+ * Switch por tipo montado em tempo de execucao  o case String s / case Integer i de
+ * SwitchResumo.patternMatchingPorTipo com os tratadores registrados como dados.
+ *
+ * Conteudo
+ * 1) Regras  quando(tipo  tratador) na ordem de registro  quandoNulo  senao
+ * 2) Resolucao  o primeiro tipo registrado que aceita a classe vence  como os case de um switch
+ *    vale para subclasse e interface  ex.: quando(CharSequence.class ..) pega String e StringBuilder
+ * 3) Cache  a resolucao roda uma vez por classe concreta e fica num ClassValue
+ *    chamadas seguintes  getClass  ClassValue.get  apply  sem percorrer as regras
+ *
+ * Regras
+ * - tipo registrado depois de um supertipo seu nunca casaria  eh rejeitado  como o erro de dominancia do javac
+ * - null sem quandoNulo lanca NullPointerException  igual ao switch sem case null
+ * - classe sem tratador e sem senao lanca IllegalArgumentException
+ * - imutavel depois de montado  pode ser compartilhado entre threads
+ */
+public final class DespachoPorTipo<R> {
+
+    private final Function<Object, ? extends R> nulo;
+    private final ClassValue<Function<Object, ? extends R>> resolvidos;
+
+    private DespachoPorTipo(Regras<R> regras) {
+
+        List<Class<?>> tipos = List.copyOf(regras.tipos);
+        List<Function<Object, ? extends R>> tratadores = List.copyOf(regras.tratadores);
+        Function<Object, ? extends R> senao = regras.senao != null ? regras.senao : o -> {
+            throw new IllegalArgumentException("sem tratador para " + o.getClass().getName());
+        };
+        Supplier<? extends R> quandoNulo = regras.quandoNulo;
+        this.nulo = quandoNulo != null ? o -> quandoNulo.get() : o -> {
+            throw new NullPointerException("valor nulo sem quandoNulo");
+        };
+
+        this.resolvidos = new ClassValue<>() {
+            @Override
+            protected Function<Object, ? extends R> computeValue(Class<?> classe) {
+                for (int i = 0; i < tipos.size(); i++) {
+                    if (tipos.get(i).isAssignableFrom(classe)) return tratadores.get(i);
+                }
+                return senao;
+            }
+        };
+
+    }
+
+    public static <R> Regras<R> regras() { return new Regras<>(); }
+
+    public R aplicar(Object valor) {
+        if (valor == null) return nulo.apply(null);
+        return resolvidos.get(valor.getClass()).apply(valor);
+    }
+
+    /* REGRAS */
+
+    public static final class Regras<R> {
+
+        private final List<Class<?>> tipos = new ArrayList<>();
+        private final List<Function<Object, ? extends R>> tratadores = new ArrayList<>();
+        private Supplier<? extends R> quandoNulo;
+        private Function<Object, ? extends R> senao;
+
+        private Regras() {
+        }
+
+        // o cast do tratador eh seguro  so recebe instancias de 'tipo' pela resolucao
+        @SuppressWarnings("unchecked")
+        public <T> Regras<R> quando(Class<T> tipo, Function<? super T, ? extends R> tratador) {
+            Objects.requireNonNull(tipo, "tipo");
+            Objects.requireNonNull(tratador, "tratador");
+            if (tipo.isPrimitive()) throw new IllegalArgumentException("tipo primitivo nunca casa  use " + tipo.getName() + " empacotado");
+            for (Class<?> anterior : tipos) {
+                if (anterior.isAssignableFrom(tipo)) {
+                    throw new IllegalArgumentException(tipo.getName() + " dominado por " + anterior.getName());
+                }
+            }
+            tipos.add(tipo);
+            tratadores.add((Function<Object, ? extends R>) tratador);
+            return this;
+        }
+
+        public Regras<R> quandoNulo(Supplier<? extends R> tratador) {
+            this.quandoNulo = Objects.requireNonNull(tratador, "tratador");
+            return this;
+        }
+
+        public Regras<R> senao(Function<Object, ? extends R> tratador) {
+            this.senao = Objects.requireNonNull(tratador, "tratador");
+            return this;
+        }
+
+        public DespachoPorTipo<R> montar() { return new DespachoPorTipo<>(this); }
+
+    }
+
+}
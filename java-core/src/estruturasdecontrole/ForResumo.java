@@ -105,6 +105,13 @@ public class ForResumo {
             System.out.println("chave vista  " + k);
         }
 
+        // mesmo placar sem Integer nem Entry  paraCada recebe a chave e o int direto
+        Placar placar = new Placar();
+        placar.colocar("Alice", 10);
+        placar.colocar("Bruno", 7);
+        placar.colocar("Carla", 12);
+        placar.paraCada((k, v) -> System.out.println("placar primitivo  " + k + "  " + v));
+
     }
 
     // 5) break  continue e rotulos
@@ -182,6 +189,15 @@ public class ForResumo {
             System.out.println("valor nao encontrado");
         }
 
+        // mesma busca numa matriz plana  1..17 crescente  busca binaria sem laco aninhado
+        MatrizDeInteiros plana = MatrizDeInteiros.de(matriz);
+        int p = plana.buscar(alvo);
+        if (p >= 0) {
+            System.out.println("matriz plana ordenada  " + plana.ordenada() + "  linha " + plana.linhaDe(p) + "  coluna " + plana.colunaDe(p));
+        } else {
+            System.out.println("matriz plana  valor nao encontrado");
+        }
+
     }
 
     // 8) Dicas e armadilhas
@@ -1,5 +1,7 @@
 package estruturasdecontrole;
 
+import java.util.Map;
+
 /**
  * IfResumo.java
 
@@ -12,7 +14,7 @@ package estruturasdecontrole;
  * 6) Combinacao de condicoes  E  OU  negacao
  * 7) Strings  comparar conteudo com equals  e checar null
  * 8) instanceof com pattern matching
- * 9) Pitfalls e boas praticas
+ * 9) Pitfalls e boas praticas  cascata longa vira TabelaDeDespacho
  */
 public class IfResumo {
 
@@ -200,6 +202,9 @@ public class IfResumo {
         }
         System.out.println("status calculado  " + status);
 
+        // mesma decisao como dado  montada uma vez  uma consulta ao array por mensagem
+        System.out.println("status pela tabela  " + STATUS.obter(codigo) + "  codigo 9  " + STATUS.obter(9));
+
         // d) Prefira extrair condicoes complexas para metodos com nomes claros
         int idade = 66;
         boolean vip = true;
@@ -211,6 +216,9 @@ public class IfResumo {
 
     }
 
+    static final TabelaDeDespacho.PorInteiro<String> STATUS = TabelaDeDespacho.porInteiro(
+            Map.of(1, "aberto", 2, "em andamento", 3, "concluido"), "indefinido");
+
     static boolean temEstoqueSuficiente(int estoque, int pedido) {
 
         return estoque >= pedido;
@@ -0,0 +1,234 @@
+package estruturasdecontrole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * IndiceDePlacar.java
+ *
+ * Indice mantido sobre pontuacoes que mudam o tempo todo  responde sem varrer o placar
+ * - primeiraComValorAoMenos(alvo)  primeiro jogador em ordem de insercao com pontos >= alvo  O(log n)
+ * - topo(k)                        k maiores pontuacoes  O(k log n)
+ * Mesma pergunta que BreakContinueResumo.varreduraDeMapaComSaidaPorCondicao responde com um laco sobre o mapa.
+ *
+ * Conteudo
+ * 1) Posicao  cada jogador recebe uma posicao fixa na primeira vez que aparece  ordem de insercao
+ * 2) Arvore de segmentos de maximo sobre as posicoes  AtomicLongArray em heap implicito  raiz em 1  folha da posicao i em folhas + i
+ *    cada no guarda versao (32 bits altos) e maximo (32 baixos)  a versao evita ABA no CAS
+ *    apos mudar uma folha  cada ancestral eh recalculado por CAS  se o CAS falha tenta uma segunda vez
+ *    a segunda tentativa le os filhos depois da nossa escrita  ou outra thread ja fez isso por nos
+ * 3) Descida  vai sempre ao filho mais a esquerda com maximo >= alvo  se uma corrida esvaziar o caminho
+ *    recomeca da raiz
+ * 4) Topo  busca melhor-primeiro na mesma arvore  heap primitivo de nos por (maximo desc  inicio da faixa)
+ *    cada no retirado empilha os dois filhos  a k-esima folha retirada encerra  empates em ordem de insercao
+ *    sem estrutura paralela para manter  a atualizacao so toca a arvore
+ *
+ * Regras
+ * - capacidade fixa na construcao  o jogador alem dela gera IllegalStateException
+ * - atualizacoes do mesmo jogador sao serializadas pelo proprio jogador  jogadores diferentes nao se bloqueiam
+ * - leituras concorrentes sao fracamente consistentes  topo(k) pode misturar pontos de antes e depois de uma troca
+ */
+public final class IndiceDePlacar {
+
+    public record Entrada(String nome, int pontos) { }
+
+    private static final int VAZIO = Integer.MIN_VALUE;
+
+    private final int folhas;
+    private final int altura;
+    private final AtomicLongArray arvore;
+    private final AtomicReferenceArray<String> nomes;
+    private final ConcurrentHashMap<String, Jogador> jogadores = new ConcurrentHashMap<>();
+    private final AtomicInteger proximaPosicao = new AtomicInteger();
+
+    public IndiceDePlacar(int capacidade) {
+        if (capacidade <= 0 || capacidade > 1 << 29) throw new IllegalArgumentException("capacidade invalida");
+        folhas = capacidade == 1 ? 1 : Integer.highestOneBit(capacidade - 1) << 1;
+        altura = Integer.numberOfTrailingZeros(folhas);
+        arvore = new AtomicLongArray(2 * folhas);
+        for (int i = 1; i < arvore.length(); i++) arvore.set(i, VAZIO & 0xFFFF_FFFFL);
+        nomes = new AtomicReferenceArray<>(capacidade);
+    }
+
+    // indexa um Placar existente  mesma ordem de insercao
+    public static IndiceDePlacar de(Placar placar, int capacidade) {
+        IndiceDePlacar indice = new IndiceDePlacar(capacidade);
+        placar.paraCada(indice::atualizar);
+        return indice;
+    }
+
+    /* 1) ATUALIZACAO */
+
+    public void atualizar(String nome, int pontos) {
+        Jogador j = jogador(nome);
+        synchronized (j) {
+            trocar(j, pontos);
+        }
+        propagar(j.posicao);
+    }
+
+    // estouro vira ArithmeticException  como Placar.somar
+    public int somar(String nome, int delta) {
+        Jogador j = jogador(nome);
+        int novo;
+        synchronized (j) {
+            novo = Math.addExact(j.iniciado ? maximo(folhas + j.posicao) : 0, delta);
+            trocar(j, novo);
+        }
+        propagar(j.posicao);
+        return novo;
+    }
+
+    public int pontos(String nome) {
+        Jogador j = jogadores.get(Objects.requireNonNull(nome, "nome"));
+        if (j == null || !j.iniciado) throw new IllegalArgumentException("jogador inexistente " + nome);
+        return maximo(folhas + j.posicao);
+    }
+
+    public int tamanho() { return jogadores.size(); }
+
+    /* 2) CONSULTAS */
+
+    public String primeiraComValorAoMenos(int alvo) {
+
+        while (true) {
+            if (maximo(1) < alvo) return null;
+            int no = 1;
+            while (no < folhas) {
+                int esq = 2 * no;
+                if (maximo(esq) >= alvo) no = esq;
+                else if (maximo(esq + 1) >= alvo) no = esq + 1;
+                else break;                     // caminho mudou durante a descida
+            }
+            if (no >= folhas && maximo(no) >= alvo) return nomes.get(no - folhas);
+        }
+
+    }
+
+    public List<Entrada> topo(int k) {
+
+        if (k < 0) throw new IllegalArgumentException("k invalido");
+        int limite = Math.min(k, proximaPosicao.get());
+        List<Entrada> saida = new ArrayList<>(limite);
+        if (limite == 0) return saida;
+
+        // cada retirada empilha no maximo 2  folhas retiradas <= limite  internos <= limite * altura
+        int cap = 2 * limite * (altura + 1) + 2;
+        long[] chaves = new long[cap];
+        int[] nos = new int[cap];
+        int n = empilhar(chaves, nos, 0, 1, 0);
+        while (n > 0 && saida.size() < limite) {
+            int no = nos[0];
+            int inicio = (int) (chaves[0] & (1 << 29) - 1);
+            n = desempilhar(chaves, nos, n);
+            int valor = maximo(no);
+            if (no >= folhas) {
+                String nome = nomes.get(no - folhas);
+                if (nome != null) saida.add(new Entrada(nome, valor));
+            } else {
+                if (n + 2 > chaves.length) {        // corrida mudou maximos durante a busca
+                    chaves = Arrays.copyOf(chaves, 2 * chaves.length);
+                    nos = Arrays.copyOf(nos, 2 * nos.length);
+                }
+                int meio = inicio + (folhas >>> (32 - Integer.numberOfLeadingZeros(no)));
+                n = empilhar(chaves, nos, n, 2 * no, inicio);
+                n = empilhar(chaves, nos, n, 2 * no + 1, meio);
+            }
+        }
+        return saida;
+
+    }
+
+    /* APOIO */
+
+    private Jogador jogador(String nome) {
+        Objects.requireNonNull(nome, "nome");
+        Jogador j = jogadores.get(nome);
+        if (j != null) return j;
+        return jogadores.computeIfAbsent(nome, n -> {
+            int p = proximaPosicao.getAndIncrement();
+            if (p >= nomes.length()) {
+                proximaPosicao.decrementAndGet();
+                throw new IllegalStateException("indice cheio");
+            }
+            nomes.set(p, n);
+            return new Jogador(p);
+        });
+    }
+
+    // chamado com o monitor do jogador
+    private void trocar(Jogador j, int pontos) {
+        long atual = arvore.get(folhas + j.posicao);
+        arvore.set(folhas + j.posicao, versionar(atual, pontos));
+        j.iniciado = true;
+    }
+
+    private void propagar(int posicao) {
+        for (int no = (folhas + posicao) >>> 1; no >= 1; no >>>= 1) {
+            if (!recalcular(no)) recalcular(no);
+        }
+    }
+
+    private boolean recalcular(int no) {
+        long atual = arvore.get(no);
+        int m = Math.max(maximo(2 * no), maximo(2 * no + 1));
+        return arvore.compareAndSet(no, atual, versionar(atual, m));
+    }
+
+    private int maximo(int no) { return (int) arvore.get(no); }
+
+    private static long versionar(long atual, int valor) {
+        return ((atual >>> 32) + 1) << 32 | (valor & 0xFFFF_FFFFL);
+    }
+
+    // heap minimo de nos  chave = pontos em ordem decrescente (32 bits) | inicio da faixa (29 bits)
+    private int empilhar(long[] chaves, int[] nos, int n, int no, int inicio) {
+        long desc = ~(maximo(no) ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL;
+        long chave = desc << 29 | inicio;
+        int i = n++;
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (chaves[pai] <= chave) break;
+            chaves[i] = chaves[pai];
+            nos[i] = nos[pai];
+            i = pai;
+        }
+        chaves[i] = chave;
+        nos[i] = no;
+        return n;
+    }
+
+    private static int desempilhar(long[] chaves, int[] nos, int n) {
+        long chave = chaves[--n];
+        int no = nos[n];
+        int i = 0;
+        while (true) {
+            int f = 2 * i + 1;
+            if (f >= n) break;
+            if (f + 1 < n && chaves[f + 1] < chaves[f]) f++;
+            if (chave <= chaves[f]) break;
+            chaves[i] = chaves[f];
+            nos[i] = nos[f];
+            i = f;
+        }
+        chaves[i] = chave;
+        nos[i] = no;
+        return n;
+    }
+
+    static final class Jogador {
+
+        final int posicao;
+        volatile boolean iniciado;      // primeira escrita ja chegou a folha
+
+        Jogador(int posicao) { this.posicao = posicao; }
+
+    }
+
+}
@@ -0,0 +1,189 @@
+package estruturasdecontrole;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * MatrizDeInteiros.java
+ *
+ * Matriz retangular de int num unico array em ordem de linha  alternativa ao int[][] com busca rotulada
+ * de ForResumo e BreakContinueResumo.  Posicao plana p = linha * colunas + coluna.
+ *
+ * Conteudo
+ * 1) Armazenamento  int[] contiguo  uma linha logo apos a outra  sem um objeto por linha
+ * 2) buscar(alvo)  escolhe a estrategia  todas devolvem a primeira ocorrencia em ordem de linha ou -1
+ *    - indice       valor para posicao  montado uma vez com indexar()  O(1) por consulta
+ *    - binaria      quando a matriz eh conhecida como nao decrescente  ex.: 1 3 5 ... 17
+ *    - paralela     varredura em blocos no commonPool a partir de um limiar  blocos a direita sao
+ *                   cancelados quando um bloco anterior acha o alvo
+ *    - linear       laco plano unico  sem rotulo nem troca de linha
+ * 3) definir  invalida o indice  mantem "ordenada" so se os vizinhos continuarem em ordem
+ *
+ * Indice e flag de ordenacao nao sao sincronizados  como em VetorDeDinheiro  um escritor por vez.
+ */
+public final class MatrizDeInteiros {
+
+    // abaixo disso o custo de dividir o trabalho supera o ganho
+    static final int BLOCO_PARALELO = 1 << 16;
+
+    private final int[] valores;
+    private final int linhas;
+    private final int colunas;
+    private boolean ordenada;
+    private Indice indice;
+    private int limiarParalelo = Integer.MAX_VALUE;
+
+    public MatrizDeInteiros(int linhas, int colunas) {
+        if (linhas < 0 || colunas < 0) throw new IllegalArgumentException("dimensoes invalidas");
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.valores = new int[Math.multiplyExact(linhas, colunas)];
+        this.ordenada = true;       // tudo zero
+    }
+
+    // copia um int[][] retangular
+    public static MatrizDeInteiros de(int[][] m) {
+        Objects.requireNonNull(m, "matriz");
+        int colunas = m.length == 0 ? 0 : m[0].length;
+        MatrizDeInteiros r = new MatrizDeInteiros(m.length, colunas);
+        for (int i = 0; i < m.length; i++) {
+            if (m[i].length != colunas) throw new IllegalArgumentException("matriz irregular na linha " + i);
+            System.arraycopy(m[i], 0, r.valores, i * colunas, colunas);
+        }
+        r.ordenada = naoDecrescente(r.valores);
+        return r;
+    }
+
+    /* 1) ARMAZENAMENTO */
+
+    public int linhas() { return linhas; }
+    public int colunas() { return colunas; }
+    public boolean ordenada() { return ordenada; }
+
+    public int valor(int linha, int coluna) { return valores[posicao(linha, coluna)]; }
+
+    public void definir(int linha, int coluna, int valor) {
+        int p = posicao(linha, coluna);
+        valores[p] = valor;
+        indice = null;
+        if (ordenada) ordenada = (p == 0 || valores[p - 1] <= valor) && (p == valores.length - 1 || valor <= valores[p + 1]);
+    }
+
+    public int linhaDe(int posicao) { return posicao / colunas; }
+    public int colunaDe(int posicao) { return posicao % colunas; }
+
+    private int posicao(int linha, int coluna) {
+        Objects.checkIndex(linha, linhas);
+        Objects.checkIndex(coluna, colunas);
+        return linha * colunas + coluna;
+    }
+
+    /* 2) BUSCA */
+
+    // monta o indice valor -> primeira posicao  vale a pena quando ha muitas consultas entre alteracoes
+    public MatrizDeInteiros indexar() {
+        indice = new Indice(valores);
+        return this;
+    }
+
+    public boolean indexada() { return indice != null; }
+
+    public MatrizDeInteiros usarParaleloAPartirDe(int limiar) {
+        if (limiar <= 0) throw new IllegalArgumentException("limiar invalido");
+        this.limiarParalelo = limiar;
+        return this;
+    }
+
+    public int buscar(int alvo) {
+        if (indice != null) return indice.posicao(alvo);
+        if (ordenada) return buscarBinaria(valores, alvo);
+        if (valores.length >= limiarParalelo && valores.length > BLOCO_PARALELO) return buscarParalela(valores, alvo);
+        return buscarLinear(valores, 0, valores.length, alvo);
+    }
+
+    public boolean contem(int alvo) { return buscar(alvo) >= 0; }
+
+    static int buscarLinear(int[] v, int ini, int fim, int alvo) {
+        for (int i = ini; i < fim; i++) {
+            if (v[i] == alvo) return i;
+        }
+        return -1;
+    }
+
+    // limite inferior  com repeticoes devolve a primeira  igual a varredura linear
+    static int buscarBinaria(int[] v, int alvo) {
+        int ini = 0, fim = v.length;
+        while (ini < fim) {
+            int meio = (ini + fim) >>> 1;
+            if (v[meio] < alvo) ini = meio + 1;
+            else fim = meio;
+        }
+        return ini < v.length && v[ini] == alvo ? ini : -1;
+    }
+
+    // findFirst em stream ordenado  o primeiro bloco com acerto vence
+    static int buscarParalela(int[] v, int alvo) {
+        int blocos = (v.length + BLOCO_PARALELO - 1) / BLOCO_PARALELO;
+        return IntStream.range(0, blocos).parallel()
+                .map(b -> buscarLinear(v, b * BLOCO_PARALELO, Math.min(v.length, (b + 1) * BLOCO_PARALELO), alvo))
+                .filter(p -> p >= 0)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static boolean naoDecrescente(int[] v) {
+        for (int i = 1; i < v.length; i++) {
+            if (v[i - 1] > v[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MatrizDeInteiros  ").append(linhas).append('x').append(colunas);
+        for (int i = 0; i < Math.min(linhas, 5); i++) {
+            sb.append("\n  ").append(Arrays.toString(Arrays.copyOfRange(valores, i * colunas, i * colunas + Math.min(colunas, 10))));
+        }
+        return sb.toString();
+    }
+
+    // enderecamento aberto  posicoes guardam p + 1  0 marca vaga livre  sem boxing de chave ou valor
+    static final class Indice {
+
+        private final int[] chaves;
+        private final int[] posicoes;
+        private final int mascara;
+
+        Indice(int[] valores) {
+            int c = Integer.highestOneBit(Math.max(16, valores.length * 2) - 1) << 1;
+            chaves = new int[c];
+            posicoes = new int[c];
+            mascara = c - 1;
+            for (int p = 0; p < valores.length; p++) {
+                int i = espalhar(valores[p]) & mascara;
+                while (posicoes[i] != 0 && chaves[i] != valores[p]) i = (i + 1) & mascara;
+                if (posicoes[i] == 0) {         // repeticao mantem a primeira posicao
+                    chaves[i] = valores[p];
+                    posicoes[i] = p + 1;
+                }
+            }
+        }
+
+        int posicao(int alvo) {
+            int i = espalhar(alvo) & mascara;
+            while (posicoes[i] != 0) {
+                if (chaves[i] == alvo) return posicoes[i] - 1;
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+
+        private static int espalhar(int h) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package estruturasdecontrole;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Placar.java
+ *
+ * Mapa String -> int em ordem de insercao  substituto do LinkedHashMap<String, Integer> de ForResumo
+ * e BreakContinueResumo para placares com dezenas de milhoes de jogadores.
+ *
+ * Conteudo
+ * 1) Entradas em arrays paralelos na ordem de insercao  chaves e valores
+ *    sem objeto Entry e sem Integer  ~24 bytes por jogador alem da String  contra ~64 do LinkedHashMap
+ * 2) Tabela de enderecamento aberto  long[] com hash nos 32 bits altos e indice da entrada + 1 nos baixos
+ *    0 marca vaga livre  a sondagem compara o hash sem tocar nas entradas  uma falta de cache a menos
+ *    sondagem linear  carga maxima 1/2  remocao com deslocamento para tras  sem lapides na tabela
+ * 3) obter  colocar  mesclar  somar  remover  todos primitivos
+ * 4) paraCada(ObjIntConsumer) e primeiraComValorAoMenos(alvo)  lacos sobre os arrays  sem iterador
+ *
+ * Regras
+ * - colocar numa chave existente mantem a posicao original  como o LinkedHashMap
+ * - remover deixa um buraco na ordem  compactado quando os buracos passam da metade
+ * - nao eh thread-safe  para consultas concorrentes veja IndiceDePlacar
+ */
+public final class Placar {
+
+    private String[] chaves;
+    private int[] valores;
+    private int usadas;         // posicoes de entrada ja ocupadas  inclui buracos
+    private int tamanho;        // chaves vivas
+
+    private long[] tabela;
+    private int mascara;
+
+    public Placar() { this(16); }
+
+    public Placar(int capacidade) {
+        if (capacidade < 0) throw new IllegalArgumentException("capacidade negativa");
+        int c = Math.max(8, capacidade);
+        chaves = new String[c];
+        valores = new int[c];
+        tabela = new long[tamanhoDeTabela(c)];
+        mascara = tabela.length - 1;
+    }
+
+    /* 1) CONSULTA */
+
+    public int tamanho() { return tamanho; }
+
+    public boolean vazio() { return tamanho == 0; }
+
+    public boolean contem(String chave) { return procurar(chave, espalhar(chave.hashCode())) >= 0; }
+
+    public int obter(String chave, int padrao) {
+        int e = procurar(chave, espalhar(chave.hashCode()));
+        return e < 0 ? padrao : valores[e];
+    }
+
+    public int obter(String chave) {
+        int e = procurar(chave, espalhar(chave.hashCode()));
+        if (e < 0) throw new IllegalArgumentException("chave inexistente " + chave);
+        return valores[e];
+    }
+
+    /* 2) ESCRITA */
+
+    // devolve true quando a chave eh nova
+    public boolean colocar(String chave, int valor) {
+        int h = espalhar(chave.hashCode());
+        int e = procurar(chave, h);
+        if (e >= 0) {
+            valores[e] = valor;
+            return false;
+        }
+        inserir(chave, h, valor);
+        return true;
+    }
+
+    // chave nova recebe 'valor'  existente recebe f(atual, valor)  devolve o valor final
+    public int mesclar(String chave, int valor, IntBinaryOperator f) {
+        int h = espalhar(chave.hashCode());
+        int e = procurar(chave, h);
+        if (e < 0) {
+            inserir(chave, h, valor);
+            return valor;
+        }
+        return valores[e] = f.applyAsInt(valores[e], valor);
+    }
+
+    // estouro vira ArithmeticException  como Math.addExact
+    public int somar(String chave, int delta) {
+        int h = espalhar(chave.hashCode());
+        int e = procurar(chave, h);
+        if (e < 0) {
+            inserir(chave, h, delta);
+            return delta;
+        }
+        return valores[e] = Math.addExact(valores[e], delta);
+    }
+
+    public boolean remover(String chave) {
+
+        int h = espalhar(chave.hashCode());
+        int i = h & mascara;
+        long t;
+        while ((t = tabela[i]) != 0) {
+            if ((int) (t >>> 32) == h && chaves[(int) t - 1].equals(chave)) break;
+            i = (i + 1) & mascara;
+        }
+        if (t == 0) return false;
+        int e = (int) t - 1;
+
+        chaves[e] = null;
+        tamanho--;
+        // deslocamento para tras  puxa para a vaga quem teria parado nela
+        int vaga = i;
+        for (int j = (i + 1) & mascara; tabela[j] != 0; j = (j + 1) & mascara) {
+            int ideal = (int) (tabela[j] >>> 32) & mascara;
+            if (((j - ideal) & mascara) >= ((j - vaga) & mascara)) {
+                tabela[vaga] = tabela[j];
+                vaga = j;
+            }
+        }
+        tabela[vaga] = 0;
+        if (usadas - tamanho > (usadas >> 1) && usadas >= 64) compactar(chaves.length);
+        return true;
+
+    }
+
+    public void limpar() {
+        Arrays.fill(chaves, 0, usadas, null);
+        Arrays.fill(tabela, 0);
+        usadas = 0;
+        tamanho = 0;
+    }
+
+    /* 3) ITERACAO */
+
+    public void paraCada(ObjIntConsumer<String> acao) {
+        String[] ks = chaves;
+        int[] vs = valores;
+        for (int e = 0, n = usadas; e < n; e++) {
+            if (ks[e] != null) acao.accept(ks[e], vs[e]);
+        }
+    }
+
+    // primeira chave em ordem de insercao com valor >= alvo  ou null
+    public String primeiraComValorAoMenos(int alvo) {
+        String[] ks = chaves;
+        int[] vs = valores;
+        for (int e = 0, n = usadas; e < n; e++) {
+            if (vs[e] >= alvo && ks[e] != null) return ks[e];
+        }
+        return null;
+    }
+
+    public long soma() {
+        long s = 0;
+        for (int e = 0, n = usadas; e < n; e++) {
+            if (chaves[e] != null) s += valores[e];
+        }
+        return s;
+    }
+
+    /* APOIO */
+
+    private int procurar(String chave, int h) {
+        long[] tab = tabela;
+        int i = h & mascara;
+        long t;
+        while ((t = tab[i]) != 0) {
+            if ((int) (t >>> 32) == h && chaves[(int) t - 1].equals(chave)) return (int) t - 1;
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void inserir(String chave, int h, int valor) {
+        if (usadas == chaves.length) {
+            // muitos buracos  compacta no mesmo tamanho  senao cresce 1.5x
+            compactar(tamanho > (usadas >> 1) ? usadas + (usadas >> 1) : usadas);
+        }
+        int e = usadas++;
+        chaves[e] = chave;
+        valores[e] = valor;
+        tamanho++;
+        posicionar(h, e);
+    }
+
+    private void posicionar(int h, int e) {
+        int i = h & mascara;
+        while (tabela[i] != 0) i = (i + 1) & mascara;
+        tabela[i] = (long) h << 32 | (e + 1);
+    }
+
+    // reescreve as entradas vivas em sequencia e reconstroi a tabela
+    private void compactar(int capacidade) {
+        String[] ks = new String[capacidade];
+        int[] vs = new int[capacidade];
+        int n = 0;
+        for (int e = 0; e < usadas; e++) {
+            if (chaves[e] == null) continue;
+            ks[n] = chaves[e];
+            vs[n] = valores[e];
+            n++;
+        }
+        chaves = ks;
+        valores = vs;
+        usadas = n;
+        int tam = tamanhoDeTabela(capacidade);
+        if (tabela.length != tam) {
+            tabela = new long[tam];
+            mascara = tam - 1;
+        } else {
+            Arrays.fill(tabela, 0);
+        }
+        for (int e = 0; e < n; e++) posicionar(espalhar(ks[e].hashCode()), e);
+    }
+
+    // potencia de 2 com carga maxima 1/2
+    private static int tamanhoDeTabela(int entradas) {
+        return Integer.highestOneBit(Math.max(16, entradas * 2) - 1) << 1;
+    }
+
+    // String.hashCode ja eh cacheado  a mistura espalha os bits altos para a mascara
+    private static int espalhar(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        paraCada((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+        return sb.append('}').toString();
+    }
+
+}
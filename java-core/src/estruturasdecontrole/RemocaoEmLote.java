@@ -0,0 +1,180 @@
+package estruturasdecontrole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * RemocaoEmLote.java
+ *
+ * Filtragem in-place em uma passada  alternativa ao it.remove() de WhileResumo.whileComIterator.
+ * Cada it.remove() num ArrayList desloca a cauda inteira  remover k de n elementos custa O(k * n).
+ *
+ * Conteudo
+ * 1) Marcacao  o predicado roda uma vez por elemento  sobreviventes viram bits num long[]
+ *    paralela opcional a partir de um limiar  cada bloco de BLOCO_PARALELO elementos escreve palavras so dele
+ * 2) Compactacao  um unico deslocamento para a esquerda  cada sobrevivente move no maximo uma vez
+ *    palavra com 64 sobreviventes vai com System.arraycopy  o prefixo que fica inteiro nao eh tocado
+ * 3) Alvos
+ *    - int[] e long[] com tamanho logico  para listas primitivas proprias
+ *      devolvem o novo tamanho  o que sobra depois dele fica com lixo
+ *    - List  mesmo contrato de removeIf  so java.util.ArrayList grande ganha a marcacao paralela
+ *      subclasses podem sobrescrever set  get  removeRange  ficam no removeIf delas
+ *
+ * Regras
+ * - predicado que lanca durante a marcacao nao deixa nada alterado  igual ao removeIf
+ * - com paralelo o predicado roda em varias threads ao mesmo tempo  tem de ser sem estado
+ * - nao eh thread-safe  um escritor por vez e ninguem lendo durante a compactacao
+ */
+public final class RemocaoEmLote {
+
+    // multiplo de 64  blocos vizinhos nunca dividem uma palavra do long[]
+    static final int BLOCO_PARALELO = 1 << 16;
+
+    private RemocaoEmLote() {
+    }
+
+    /* 1) PRIMITIVOS */
+
+    public static int removerSe(int[] v, int tamanho, IntPredicate remover) {
+        return removerSe(v, tamanho, remover, Integer.MAX_VALUE);
+    }
+
+    // marcacao paralela quando tamanho >= limiarParalelo
+    public static int removerSe(int[] v, int tamanho, IntPredicate remover, int limiarParalelo) {
+
+        Objects.checkFromToIndex(0, tamanho, v.length);
+        Objects.requireNonNull(remover, "remover");
+        long[] vivos = new long[palavras(tamanho)];
+        if (!paralelo(tamanho, limiarParalelo)) {
+            marcar(v, 0, tamanho, remover, vivos);
+        } else {
+            IntStream.range(0, blocos(tamanho)).parallel().forEach(b ->
+                    marcar(v, b * BLOCO_PARALELO, Math.min(tamanho, (b + 1) * BLOCO_PARALELO), remover, vivos));
+        }
+
+        int k = 0;
+        for (int p = 0; p < vivos.length; p++) {
+            long bits = vivos[p];
+            int base = p << 6;
+            if (bits == -1L) {
+                if (k != base) System.arraycopy(v, base, v, k, 64);
+                k += 64;
+                continue;
+            }
+            for (; bits != 0; bits &= bits - 1) v[k++] = v[base + Long.numberOfTrailingZeros(bits)];
+        }
+        return k;
+
+    }
+
+    public static int removerSe(long[] v, int tamanho, LongPredicate remover) {
+        return removerSe(v, tamanho, remover, Integer.MAX_VALUE);
+    }
+
+    public static int removerSe(long[] v, int tamanho, LongPredicate remover, int limiarParalelo) {
+
+        Objects.checkFromToIndex(0, tamanho, v.length);
+        Objects.requireNonNull(remover, "remover");
+        long[] vivos = new long[palavras(tamanho)];
+        if (!paralelo(tamanho, limiarParalelo)) {
+            marcar(v, 0, tamanho, remover, vivos);
+        } else {
+            IntStream.range(0, blocos(tamanho)).parallel().forEach(b ->
+                    marcar(v, b * BLOCO_PARALELO, Math.min(tamanho, (b + 1) * BLOCO_PARALELO), remover, vivos));
+        }
+
+        int k = 0;
+        for (int p = 0; p < vivos.length; p++) {
+            long bits = vivos[p];
+            int base = p << 6;
+            if (bits == -1L) {
+                if (k != base) System.arraycopy(v, base, v, k, 64);
+                k += 64;
+                continue;
+            }
+            for (; bits != 0; bits &= bits - 1) v[k++] = v[base + Long.numberOfTrailingZeros(bits)];
+        }
+        return k;
+
+    }
+
+    // 'ini' sempre multiplo de 64  a ultima palavra pode ficar parcial  bits alem de 'fim' ficam zero
+    private static void marcar(int[] v, int ini, int fim, IntPredicate remover, long[] vivos) {
+        for (int base = ini; base < fim; base += 64) {
+            int lim = Math.min(fim, base + 64);
+            long bits = 0;
+            for (int i = base; i < lim; i++) {
+                bits |= (remover.test(v[i]) ? 0L : 1L) << i;    // sem desvio  shift de long usa so os 6 bits baixos
+            }
+            vivos[base >>> 6] = bits;
+        }
+    }
+
+    private static void marcar(long[] v, int ini, int fim, LongPredicate remover, long[] vivos) {
+        for (int base = ini; base < fim; base += 64) {
+            int lim = Math.min(fim, base + 64);
+            long bits = 0;
+            for (int i = base; i < lim; i++) {
+                bits |= (remover.test(v[i]) ? 0L : 1L) << i;
+            }
+            vivos[base >>> 6] = bits;
+        }
+    }
+
+    /* 2) LISTAS */
+
+    // devolve o novo tamanho  sequencial eh o proprio removeIf (o do ArrayList ja marca num bitset e desloca uma vez)
+    public static <E> int removerSe(List<E> lista, Predicate<? super E> remover) {
+        return removerSe(lista, remover, Integer.MAX_VALUE);
+    }
+
+    public static <E> int removerSe(List<E> lista, Predicate<? super E> remover, int limiarParalelo) {
+
+        Objects.requireNonNull(remover, "remover");
+        int n = lista.size();
+        if (lista.getClass() != ArrayList.class || !paralelo(n, limiarParalelo)) {
+            lista.removeIf(remover);
+            return lista.size();
+        }
+
+        long[] vivos = new long[palavras(n)];
+        IntStream.range(0, blocos(n)).parallel().forEach(b -> {
+            int fim = Math.min(n, (b + 1) * BLOCO_PARALELO);
+            for (int base = b * BLOCO_PARALELO; base < fim; base += 64) {
+                int lim = Math.min(fim, base + 64);
+                long bits = 0;
+                for (int i = base; i < lim; i++) {
+                    bits |= (remover.test(lista.get(i)) ? 0L : 1L) << i;
+                }
+                vivos[base >>> 6] = bits;
+            }
+        });
+
+        int k = 0;
+        for (int p = 0; p < vivos.length; p++) {
+            int base = p << 6;
+            for (long bits = vivos[p]; bits != 0; bits &= bits - 1) {
+                int i = base + Long.numberOfTrailingZeros(bits);
+                if (i != k) lista.set(k, lista.get(i));
+                k++;
+            }
+        }
+        lista.subList(k, n).clear();         // removeRange na cauda  nada desloca  so anula para o GC
+        return k;
+
+    }
+
+    /* APOIO */
+
+    private static boolean paralelo(int tamanho, int limiar) { return tamanho >= limiar && tamanho > BLOCO_PARALELO; }
+
+    private static int blocos(int tamanho) { return (tamanho + BLOCO_PARALELO - 1) / BLOCO_PARALELO; }
+
+    private static int palavras(int tamanho) { return (tamanho + 63) >>> 6; }
+
+}
@@ -0,0 +1,381 @@
+package estruturasdecontrole;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retentativas.java
+ *
+ * Motor de retentativa assincrono  a versao de WhileResumo.esperaComBackoff para milhares de sondas ao mesmo tempo.
+ * Nenhuma thread fica parada esperando o proximo atraso  a espera eh um agendamento.
+ *
+ * Conteudo
+ * 1) Politica  tentativas  atraso inicial e teto  jitter  tempo por tentativa  quais erros repetem
+ * 2) Jitter  NENHUM  atraso = min(teto  inicial * 2^n)
+ *            CHEIO  sorteio em [0  min(teto  inicial * 2^n)]
+ *            DESCORRELACIONADO  min(teto  sorteio em [inicial  anterior * 3])
+ * 3) Execucao  executar(Callable) roda o laco numa thread virtual  sleep entre tentativas solta a carrier
+ *    executarAssincrono(Supplier<CompletionStage>) para tentativas que ja sao assincronas  atrasos viram agendamentos
+ *    cada chamada do supplier sai numa thread virtual  supplier que bloqueia nao trava os outros lacos
+ *    o ScheduledThreadPoolExecutor de uma thread so conta atrasos e limites de tempo  nunca roda tentativa
+ * 4) Orcamento  balde de fichas compartilhado como no retry throttling do gRPC
+ *    cada falha que pediria nova tentativa gasta 1  cada sucesso devolve 'razao'  abaixo de metade do maximo ninguem repete
+ *    evita que uma pane transforme cada pedido em 'maxTentativas' pedidos
+ * 5) Contadores  tentativas  sucessos  desistencias  repeticoes negadas pelo orcamento  tempos esgotados
+ *
+ * Regras
+ * - cancelar o CompletableFuture devolvido interrompe a tentativa em curso e encerra o laco
+ * - tempo esgotado conta como falha repetivel  TimeoutException
+ * - desistencia completa o future com o ultimo erro da tentativa
+ * - use com try-with-resources  close encerra o agendador e cancela os lacos ainda vivos
+ */
+public final class Retentativas implements AutoCloseable {
+
+    public enum Jitter { NENHUM, CHEIO, DESCORRELACIONADO }
+
+    // tempoPorTentativaMs = 0  sem limite
+    public record Politica(int maxTentativas, long atrasoInicialMs, long atrasoMaximoMs, Jitter jitter,
+                           long tempoPorTentativaMs, Predicate<Throwable> repetirSe) {
+
+        public Politica {
+            if (maxTentativas <= 0) throw new IllegalArgumentException("tentativas invalidas");
+            if (atrasoInicialMs < 0 || atrasoMaximoMs < atrasoInicialMs) throw new IllegalArgumentException("atrasos invalidos");
+            if (tempoPorTentativaMs < 0) throw new IllegalArgumentException("tempo por tentativa invalido");
+            Objects.requireNonNull(jitter, "jitter");
+            Objects.requireNonNull(repetirSe, "repetirSe");
+        }
+
+        // os numeros de WhileResumo.esperaComBackoff  5 tentativas  100 ms dobrando ate 1600 ms
+        public static Politica padrao() {
+            return new Politica(5, 100, 1600, Jitter.CHEIO, 0, e -> e instanceof Exception);
+        }
+
+        public Politica comTentativas(int n) {
+            return new Politica(n, atrasoInicialMs, atrasoMaximoMs, jitter, tempoPorTentativaMs, repetirSe);
+        }
+
+        public Politica comAtrasos(long inicialMs, long maximoMs) {
+            return new Politica(maxTentativas, inicialMs, maximoMs, jitter, tempoPorTentativaMs, repetirSe);
+        }
+
+        public Politica comJitter(Jitter j) {
+            return new Politica(maxTentativas, atrasoInicialMs, atrasoMaximoMs, j, tempoPorTentativaMs, repetirSe);
+        }
+
+        public Politica comTempoPorTentativa(long ms) {
+            return new Politica(maxTentativas, atrasoInicialMs, atrasoMaximoMs, jitter, ms, repetirSe);
+        }
+
+        public Politica repetindoSe(Predicate<Throwable> p) {
+            return new Politica(maxTentativas, atrasoInicialMs, atrasoMaximoMs, jitter, tempoPorTentativaMs, p);
+        }
+    }
+
+    // fichas em milesimos  um unico AtomicLong  compartilhe a mesma instancia entre motores do mesmo servico
+    public static final class Orcamento {
+
+        private final long maximo;
+        private final long devolucao;
+        private final AtomicLong fichas;
+        private final boolean ilimitado;
+
+        public Orcamento(int maximo, double razao) {
+            if (maximo <= 0) throw new IllegalArgumentException("maximo invalido");
+            if (razao <= 0 || razao > maximo) throw new IllegalArgumentException("razao invalida");
+            this.maximo = maximo * 1000L;
+            this.devolucao = Math.round(razao * 1000);
+            this.fichas = new AtomicLong(this.maximo);
+            this.ilimitado = false;
+        }
+
+        private Orcamento() {
+            this.maximo = 0;
+            this.devolucao = 0;
+            this.fichas = null;
+            this.ilimitado = true;
+        }
+
+        // sem conta nenhuma  nem o CAS por tentativa
+        public static Orcamento ilimitado() { return new Orcamento(); }
+
+        public double fichas() { return ilimitado ? Double.POSITIVE_INFINITY : fichas.get() / 1000.0; }
+
+        boolean permite() { return ilimitado || fichas.get() > maximo / 2; }
+
+        void falha() { if (!ilimitado) fichas.accumulateAndGet(1000, (atual, d) -> Math.max(0, atual - d)); }
+
+        void sucesso() { if (!ilimitado) fichas.accumulateAndGet(devolucao, (atual, d) -> Math.min(maximo, atual + d)); }
+    }
+
+    public record Contadores(long tentativas, long sucessos, long desistencias, long negadasPeloOrcamento, long temposEsgotados) { }
+
+    private final Politica politica;
+    private final Orcamento orcamento;
+    private final ScheduledThreadPoolExecutor agendador;
+    private final ExecutorService virtuais = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Laco<?>> vivos = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder tentativas = new LongAdder();
+    private final LongAdder sucessos = new LongAdder();
+    private final LongAdder desistencias = new LongAdder();
+    private final LongAdder negadas = new LongAdder();
+    private final LongAdder esgotados = new LongAdder();
+
+    public Retentativas(Politica politica) { this(politica, Orcamento.ilimitado()); }
+
+    public Retentativas(Politica politica, Orcamento orcamento) {
+        this.politica = Objects.requireNonNull(politica, "politica");
+        this.orcamento = Objects.requireNonNull(orcamento, "orcamento");
+        this.agendador = new ScheduledThreadPoolExecutor(1, r -> Thread.ofPlatform().daemon().name("retentativas").unstarted(r));
+        this.agendador.setRemoveOnCancelPolicy(true);       // limites de tempo cancelados nao ficam na fila
+    }
+
+    /* 1) EXECUCAO */
+
+    // o laco inteiro numa thread virtual  Thread.sleep entre tentativas solta a carrier  o agendador so guarda os limites de tempo
+    public <T> CompletableFuture<T> executar(Callable<T> tentativa) {
+        Objects.requireNonNull(tentativa, "tentativa");
+        Laco<T> laco = registrar(new Laco<>(null));
+        Future<?> t = virtuais.submit(() -> lacoBloqueante(laco, tentativa));
+        laco.resultado.whenComplete((v, e) -> { if (e instanceof CancellationException) t.cancel(true); });
+        return laco.resultado;
+    }
+
+    public <T> CompletableFuture<T> executarAssincrono(Supplier<? extends CompletionStage<T>> tentativa) {
+        Objects.requireNonNull(tentativa, "tentativa");
+        return iniciar(() -> {
+            try {
+                return tentativa.get().toCompletableFuture();
+            } catch (Throwable e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    public Contadores contadores() {
+        return new Contadores(tentativas.sum(), sucessos.sum(), desistencias.sum(), negadas.sum(), esgotados.sum());
+    }
+
+    // lacos ainda vivos terminam com CancellationException  as tentativas em curso sao interrompidas
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+        for (Laco<?> laco : vivos) laco.resultado.cancel(true);
+        virtuais.shutdownNow();
+    }
+
+    /* 2) LACO */
+
+    private <T> CompletableFuture<T> iniciar(Supplier<CompletableFuture<T>> tentativa) {
+        Laco<T> laco = registrar(new Laco<>(tentativa));
+        despachar(laco);
+        return laco.resultado;
+    }
+
+    // a chamada do supplier vai para uma thread virtual  o agendador e quem chamou so disparam
+    private <T> void despachar(Laco<T> laco) {
+        try {
+            virtuais.execute(() -> tentar(laco));
+        } catch (RejectedExecutionException fechado) {        // motor fechado entre o agendamento e o disparo
+            laco.resultado.cancel(false);
+        }
+    }
+
+    private <T> Laco<T> registrar(Laco<T> laco) {
+        if (agendador.isShutdown()) throw new IllegalStateException("motor fechado");
+        vivos.add(laco);
+        laco.resultado.whenComplete((v, e) -> vivos.remove(laco));
+        return laco;
+    }
+
+    private <T> void lacoBloqueante(Laco<T> laco, Callable<T> tentativa) {
+
+        while (!laco.resultado.isDone()) {
+            tentativas.increment();
+            laco.numero++;
+            Limite limite = null;
+            if (politica.tempoPorTentativaMs > 0) {
+                limite = new Limite(Thread.currentThread());
+                limite.tarefa = agendador.schedule(limite, politica.tempoPorTentativaMs, TimeUnit.MILLISECONDS);
+            }
+            T valor = null;
+            Throwable erro = null;
+            try {
+                valor = tentativa.call();
+            } catch (Throwable e) {
+                erro = e;
+            }
+            if (limite != null && limite.encerrar()) {          // resposta que chegou depois do limite tambem nao vale
+                esgotados.increment();
+                erro = new TimeoutException("tentativa " + laco.numero + " passou de " + politica.tempoPorTentativaMs + " ms");
+            } else if (erro instanceof InterruptedException) {
+                if (!laco.resultado.isDone()) desistir(laco, erro);    // cancelado ou motor fechado
+                return;
+            }
+            if (erro == null) {
+                sucessos.increment();
+                orcamento.sucesso();
+                laco.resultado.complete(valor);
+                return;
+            }
+            long atraso = esperaOuDesiste(laco, erro);
+            if (atraso < 0) return;
+            try {
+                Thread.sleep(atraso);
+            } catch (InterruptedException e) {
+                if (!laco.resultado.isDone()) desistir(laco, erro);
+                return;
+            }
+        }
+
+    }
+
+    private <T> void tentar(Laco<T> laco) {
+
+        if (laco.resultado.isDone()) return;           // cancelado durante a espera
+        tentativas.increment();
+        laco.numero++;
+        CompletableFuture<T> atual = laco.tentativa.get();
+        laco.emCurso = atual;
+        if (laco.resultado.isCancelled()) atual.cancel(true);      // cancelado enquanto a tentativa nascia
+
+        ScheduledFuture<?> limite = null;
+        if (politica.tempoPorTentativaMs > 0 && !atual.isDone()) {
+            limite = agendador.schedule(() -> {
+                if (atual.completeExceptionally(new TimeoutException("tentativa " + laco.numero + " passou de "
+                        + politica.tempoPorTentativaMs + " ms"))) esgotados.increment();
+            }, politica.tempoPorTentativaMs, TimeUnit.MILLISECONDS);
+        }
+        ScheduledFuture<?> limiteFinal = limite;
+        atual.whenComplete((valor, erro) -> {
+            if (limiteFinal != null) limiteFinal.cancel(false);
+            if (erro == null) {
+                sucessos.increment();
+                orcamento.sucesso();
+                laco.resultado.complete(valor);
+            } else {
+                falhou(laco, erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro);
+            }
+        });
+
+    }
+
+    private <T> void falhou(Laco<T> laco, Throwable erro) {
+        long atraso = esperaOuDesiste(laco, erro);
+        if (atraso < 0) return;
+        try {
+            agendador.schedule(() -> despachar(laco), atraso, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException fechado) {           // motor fechado durante o laco
+            desistir(laco, erro);
+        }
+    }
+
+    // atraso ate a proxima tentativa  ou -1 quando o laco terminou aqui
+    private long esperaOuDesiste(Laco<?> laco, Throwable erro) {
+
+        if (laco.resultado.isDone()) return -1;
+        boolean repetivel = !(erro instanceof CancellationException) && politica.repetirSe.test(erro);
+        if (!repetivel || laco.numero >= politica.maxTentativas) {
+            desistir(laco, erro);
+            return -1;
+        }
+        // so gasta ficha quem de fato pediria nova tentativa  erro de negocio e cancelamento nao drenam o balde
+        orcamento.falha();
+        if (!orcamento.permite()) {
+            negadas.increment();
+            desistir(laco, erro);
+            return -1;
+        }
+        return proximoAtraso(laco);
+
+    }
+
+    private void desistir(Laco<?> laco, Throwable erro) {
+        desistencias.increment();
+        laco.resultado.completeExceptionally(erro);
+    }
+
+    // numero = tentativas ja feitas  a primeira espera usa o atraso inicial
+    long proximoAtraso(Laco<?> laco) {
+        long inicial = politica.atrasoInicialMs, teto = politica.atrasoMaximoMs;
+        int n = laco.numero - 1;
+        long exponencial = n >= 62 || inicial << n >>> n != inicial ? teto : Math.min(teto, inicial << n);
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        long atraso = switch (politica.jitter) {
+            case NENHUM -> exponencial;
+            case CHEIO -> rnd.nextLong(exponencial + 1);
+            case DESCORRELACIONADO -> Math.min(teto, rnd.nextLong(inicial, Math.max(inicial, (laco.anterior == 0 ? inicial : laco.anterior) * 3) + 1));
+        };
+        laco.anterior = atraso;
+        return atraso;
+    }
+
+    // estado de um laco de retentativa  tocado por uma tentativa por vez
+    static final class Laco<T> {
+
+        final Supplier<CompletableFuture<T>> tentativa;
+        final CompletableFuture<T> resultado = new CompletableFuture<>();
+        volatile CompletableFuture<T> emCurso;
+        volatile int numero;
+        volatile long anterior;
+
+        // tentativa null  laco bloqueante  o cancelamento chega pela interrupcao da thread virtual
+        Laco(Supplier<CompletableFuture<T>> tentativa) {
+            this.tentativa = tentativa;
+            if (tentativa == null) return;
+            // cancelar o resultado cancela a tentativa assincrona em curso
+            resultado.whenComplete((v, e) -> {
+                CompletableFuture<T> f = emCurso;
+                if (e instanceof CancellationException && f != null) f.cancel(true);
+            });
+        }
+
+    }
+
+    // limite de tempo de uma tentativa bloqueante  a trava impede que a interrupcao vaze para depois do fim
+    static final class Limite implements Runnable {
+
+        private final Thread alvo;
+        ScheduledFuture<?> tarefa;
+        private boolean encerrado;
+        private boolean esgotado;
+
+        Limite(Thread alvo) { this.alvo = alvo; }
+
+        @Override
+        public synchronized void run() {
+            if (encerrado) return;
+            esgotado = true;
+            alvo.interrupt();
+        }
+
+        // chamado pela propria thread alvo  true quando o limite estourou
+        synchronized boolean encerrar() {
+            encerrado = true;
+            if (tarefa != null) tarefa.cancel(false);
+            if (esgotado) Thread.interrupted();
+            return esgotado;
+        }
+
+    }
+
+}
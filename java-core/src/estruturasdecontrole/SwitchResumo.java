@@ -2,6 +2,7 @@ package estruturasdecontrole;
 
 import java.time.DayOfWeek;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * SwitchResumo.java
@@ -14,8 +15,9 @@ import java.util.Locale;
  * 5) Escopo de variaveis dentro de casos
  * 6) Default e tratamento de valores inesperados
  * 7) Null no switch  alternativa segura
- * 8) Pattern matching simples por tipo no switch
+ * 8) Pattern matching simples por tipo no switch  e DespachoPorTipo com regras montadas em execucao
  * 9) Armadilhas e boas praticas
+ * 10) Tabela de despacho  o mesmo switch como regras montadas uma vez
  */
 public class SwitchResumo {
 
@@ -30,6 +32,7 @@ public class SwitchResumo {
         tratamentoDeNull();
         patternMatchingPorTipo();
         armadilhasEBoasPraticas();
+        tabelaDeDespacho();
 
     }
 
@@ -206,8 +209,23 @@ public class SwitchResumo {
         };
         System.out.println("descricao do objeto  " + tipo);
 
+        // mesmas regras como dados  tratador resolvido uma vez por classe
+        for (Object o : new Object[]{"abc", 7, -1.5, new StringBuilder("sb"), 3L, null}) {
+            System.out.println("despacho por tipo  " + DESCRICOES.aplicar(o));
+        }
+
     }
 
+    // CharSequence pega String e StringBuilder  Number pega o que sobrou de Integer e Double
+    static final DespachoPorTipo<String> DESCRICOES = DespachoPorTipo.<String>regras()
+            .quando(CharSequence.class, s -> "texto com tamanho " + s.length())
+            .quando(Integer.class, i -> "inteiro com valor " + i)
+            .quando(Double.class, d -> "real " + (d > 0 ? "positivo" : "nao positivo"))
+            .quando(Number.class, n -> "outro numero " + n)
+            .quandoNulo(() -> "nulo")
+            .senao(o -> "outro tipo")
+            .montar();
+
     // 9) Armadilhas e boas praticas
     static void armadilhasEBoasPraticas() {
         System.out.println("\nArmadilhas e boas praticas");
@@ -219,4 +237,26 @@ public class SwitchResumo {
         System.out.println("mantenha cada caso curto e objetivo");
     }
 
+    // 10) Tabela de despacho  regras como dados  podem vir de configuracao
+    static void tabelaDeDespacho() {
+
+        System.out.println("\nTabela de despacho");
+
+        TabelaDeDespacho.PorTexto<String> comandos = TabelaDeDespacho.porTexto(
+                Map.of("start", "iniciar processo", "stop", "parar processo"), "comando invalido");
+        System.out.println("start  " + comandos.obter("START".toLowerCase(Locale.ROOT)) + "  null  " + comandos.obter(null));
+
+        TabelaDeDespacho.PorInteiro<Integer> dias = TabelaDeDespacho.porInteiro(TabelaDeDespacho.<Integer, Integer>regras()
+                .quando(31, 1, 3, 5, 7, 8, 10, 12)
+                .quando(30, 4, 6, 9, 11)
+                .quando(28, 2)
+                .casos(), -1);
+        System.out.println("dias em abril  " + dias.obter(4) + "  mes 13  " + dias.obter(13));
+
+        TabelaDeDespacho.PorEnum<DayOfWeek, String> tipo = TabelaDeDespacho.porEnum(DayOfWeek.class,
+                Map.of(DayOfWeek.SATURDAY, "fim de semana", DayOfWeek.SUNDAY, "fim de semana"), "dia util");
+        System.out.println("sabado  " + tipo.obter(DayOfWeek.SATURDAY) + "  segunda  " + tipo.obter(DayOfWeek.MONDAY));
+
+    }
+
 }
@@ -0,0 +1,226 @@
+package estruturasdecontrole;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * TabelaDeDespacho.java
+ *
+ * Classificacao chave para valor montada uma vez a partir de regras declarativas  alternativa as
+ * cascatas if/else de IfResumo e aos switch de SwitchResumo quando a mesma decisao roda em toda mensagem.
+ *
+ * Conteudo
+ * 1) Regras  mapa chave para valor  Map.of(..) ou regras().quando(valor  chaves...) para varios rotulos por caso
+ * 2) porInteiro  faixa pequena (max - min < LIMITE_DENSO) vira array denso indexado por chave - min
+ *                faixa larga vira int[] ordenado com busca binaria
+ * 3) porTexto    hash perfeito  multiplicador escolhido na montagem sem colisao  uma multiplicacao  um equals
+ *                chaves com o mesmo hashCode (ex.: "Aa" e "BB") nao se separam  dai vai para HashMap
+ * 4) porEnum     EnumMap  array por ordinal por baixo
+ *
+ * Regras
+ * - chave ausente ou null devolve o padrao  valores null nao sao aceitos
+ * - imutavel depois de montada  pode ser compartilhada entre threads
+ * - quando cada forma ganha esta em TabelaDeDespachoBench
+ */
+public final class TabelaDeDespacho {
+
+    // faixa maxima do array denso  4096 referencias = 16 KB com oops comprimidos
+    static final int LIMITE_DENSO = 1 << 12;
+    // tentativas de multiplicador por tamanho de tabela antes de dobrar
+    static final int TENTATIVAS = 64;
+
+    private TabelaDeDespacho() {
+    }
+
+    /* 1) REGRAS */
+
+    public static <K, V> Regras<K, V> regras() { return new Regras<>(); }
+
+    public static final class Regras<K, V> {
+
+        private final Map<K, V> casos = new LinkedHashMap<>();
+
+        private Regras() {
+        }
+
+        @SafeVarargs
+        public final Regras<K, V> quando(V valor, K... chaves) {
+            Objects.requireNonNull(valor, "valor");
+            for (K k : chaves) {
+                if (casos.putIfAbsent(Objects.requireNonNull(k, "chave"), valor) != null) {
+                    throw new IllegalArgumentException("chave repetida  " + k);
+                }
+            }
+            return this;
+        }
+
+        public Map<K, V> casos() { return casos; }
+
+    }
+
+    /* 2) INTEIROS */
+
+    public static <V> PorInteiro<V> porInteiro(Map<Integer, ? extends V> casos, V padrao) {
+        return new PorInteiro<>(casos, padrao);
+    }
+
+    public static final class PorInteiro<V> {
+
+        private final V padrao;
+        private final int minimo;
+        private final Object[] densa;       // null quando esparsa
+        private final int[] chaves;         // ordenadas  so na esparsa
+        private final Object[] valores;
+
+        private PorInteiro(Map<Integer, ? extends V> casos, V padrao) {
+
+            this.padrao = padrao;
+            int[] ks = new int[casos.size()];
+            int n = 0;
+            for (Integer k : casos.keySet()) ks[n++] = k;
+            Arrays.sort(ks);
+            this.minimo = n == 0 ? 0 : ks[0];
+
+            if (n > 0 && (long) ks[n - 1] - minimo < LIMITE_DENSO) {
+                densa = new Object[ks[n - 1] - minimo + 1];
+                Arrays.fill(densa, padrao);
+                for (Map.Entry<Integer, ? extends V> e : casos.entrySet()) {
+                    densa[e.getKey() - minimo] = Objects.requireNonNull(e.getValue(), "valor");
+                }
+                chaves = null;
+                valores = null;
+            } else {
+                densa = null;
+                chaves = ks;
+                valores = new Object[n];
+                for (int i = 0; i < n; i++) valores[i] = Objects.requireNonNull(casos.get(ks[i]), "valor");
+            }
+
+        }
+
+        @SuppressWarnings("unchecked")
+        public V obter(int chave) {
+            if (densa != null) {
+                // subtracao em long  chave - minimo pode estourar int
+                long i = (long) chave - minimo;
+                return i >= 0 && i < densa.length ? (V) densa[(int) i] : padrao;
+            }
+            int i = Arrays.binarySearch(chaves, chave);
+            return i >= 0 ? (V) valores[i] : padrao;
+        }
+
+        public boolean densa() { return densa != null; }
+
+    }
+
+    /* 3) TEXTOS */
+
+    public static <V> PorTexto<V> porTexto(Map<String, ? extends V> casos, V padrao) {
+        return new PorTexto<>(casos, padrao);
+    }
+
+    public static final class PorTexto<V> {
+
+        private final V padrao;
+        private final long multiplicador;
+        private final int deslocamento;
+        private final String[] chaves;
+        private final Object[] valores;
+        private final Map<String, V> reserva;   // so quando dois hashCode coincidem
+
+        private PorTexto(Map<String, ? extends V> casos, V padrao) {
+
+            this.padrao = padrao;
+            int n = casos.size();
+            int[] hashes = new int[n];
+            int c = 0;
+            for (String k : casos.keySet()) hashes[c++] = k.hashCode();
+            Arrays.sort(hashes);
+            boolean colide = false;
+            for (int i = 1; i < n; i++) colide |= hashes[i] == hashes[i - 1];
+
+            if (colide) {
+                reserva = new HashMap<>(casos);
+                reserva.values().forEach(v -> Objects.requireNonNull(v, "valor"));
+                multiplicador = 0;
+                deslocamento = 0;
+                chaves = null;
+                valores = null;
+                return;
+            }
+            reserva = null;
+
+            // tabela com ao menos o dobro de posicoes  multiplicadores impares de uma semente fixa
+            SplittableRandom rnd = new SplittableRandom(0x5EED);
+            for (int bits = Math.max(1, 33 - Integer.numberOfLeadingZeros(Math.max(1, n))); ; bits++) {
+                String[] ks = new String[1 << bits];
+                for (int t = 0; t < TENTATIVAS; t++) {
+                    long m = rnd.nextLong() | 1;
+                    if (distribuir(casos.keySet(), m, 64 - bits, ks)) {
+                        multiplicador = m;
+                        deslocamento = 64 - bits;
+                        chaves = ks;
+                        valores = new Object[ks.length];
+                        for (int i = 0; i < ks.length; i++) {
+                            if (ks[i] != null) valores[i] = Objects.requireNonNull(casos.get(ks[i]), "valor");
+                        }
+                        return;
+                    }
+                }
+            }
+
+        }
+
+        private static boolean distribuir(Iterable<String> ks, long m, int deslocamento, String[] destino) {
+            Arrays.fill(destino, null);
+            for (String k : ks) {
+                int i = (int) ((k.hashCode() * m) >>> deslocamento);
+                if (destino[i] != null) return false;
+                destino[i] = k;
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V obter(String chave) {
+            if (chave == null) return padrao;
+            if (reserva != null) return reserva.getOrDefault(chave, padrao);
+            int i = (int) ((chave.hashCode() * multiplicador) >>> deslocamento);
+            return chave.equals(chaves[i]) ? (V) valores[i] : padrao;
+        }
+
+        public boolean perfeita() { return reserva == null; }
+
+    }
+
+    /* 4) ENUMS */
+
+    public static <E extends Enum<E>, V> PorEnum<E, V> porEnum(Class<E> tipo, Map<E, ? extends V> casos, V padrao) {
+        return new PorEnum<>(tipo, casos, padrao);
+    }
+
+    public static final class PorEnum<E extends Enum<E>, V> {
+
+        private final V padrao;
+        private final EnumMap<E, V> mapa;
+
+        private PorEnum(Class<E> tipo, Map<E, ? extends V> casos, V padrao) {
+            this.padrao = padrao;
+            this.mapa = new EnumMap<>(tipo);
+            for (Map.Entry<E, ? extends V> e : casos.entrySet()) mapa.put(e.getKey(), Objects.requireNonNull(e.getValue(), "valor"));
+        }
+
+        // EnumMap.get(null) devolve null  cai no padrao
+        public V obter(E chave) {
+            V v = mapa.get(chave);
+            return v != null ? v : padrao;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package estruturasdecontrole;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -12,10 +13,10 @@ import java.util.concurrent.ThreadLocalRandom;
  * 3) Atualizacao correta da condicao  contadores e decrementos
  * 4) Laco sentinela  parar ao encontrar um marcador
  * 5) Validacao de entrada com do while
- * 6) Iteracao de colecoes com while e Iterator
+ * 6) Iteracao de colecoes com while e Iterator  e RemocaoEmLote quando muitos saem
  * 7) break  continue  e rotulos
  * 8) Laco infinito controlado e saida por evento
- * 9) Espera com backoff simples
+ * 9) Espera com backoff simples  e Retentativas para milhares de sondas
  * 10) Conversao de for para while
  * 11) Armadilhas e boas praticas
  */
@@ -141,6 +142,18 @@ public class WhileResumo {
         }
         System.out.println("lista apos remocoes  " + nomes);
 
+        // it.remove() desloca a cauda a cada remocao  O(n^2) quando muitos saem
+        // RemocaoEmLote marca os sobreviventes num bitset e desloca uma vez so
+        int[] codigos = new int[1_000_000];
+        for (int i = 0; i < codigos.length; i++) codigos[i] = i;
+        int tamanho = RemocaoEmLote.removerSe(codigos, codigos.length, c -> c % 3 == 0);
+        System.out.println("codigos nao multiplos de 3  " + tamanho + "  primeiros " + codigos[0] + " " + codigos[1] + " " + codigos[2]);
+
+        List<String> muitos = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) muitos.add((i & 1) == 0 ? "Bia" + i : "Ana" + i);
+        int restantes = RemocaoEmLote.removerSe(muitos, nome -> nome.startsWith("B"), 100_000);
+        System.out.println("nomes restantes com marcacao paralela  " + restantes + "  primeiro " + muitos.get(0));
+
     }
 
     // 7) break  continue  e rotulos
@@ -221,6 +234,22 @@ public class WhileResumo {
         }
         System.out.println(ok ? "recurso disponivel" : "recurso indisponivel apos tentativas");
 
+        // o laco acima prende uma thread durante todas as esperas  com milhares de sondas use Retentativas
+        // mesmas regras  5 tentativas  atraso dobrando ate um teto  mais jitter para as sondas nao baterem juntas
+        System.out.println("mil sondas com Retentativas  jitter cheio  sem thread parada na espera");
+        Retentativas.Politica politica = Retentativas.Politica.padrao().comAtrasos(10, 160);
+        try (Retentativas motor = new Retentativas(politica)) {
+            List<CompletableFuture<Boolean>> sondas = new ArrayList<>();
+            for (int s = 0; s < 1_000; s++) {
+                sondas.add(motor.executar(() -> {
+                    if (ThreadLocalRandom.current().nextInt(10) <= 6) throw new IllegalStateException("indisponivel");
+                    return true;
+                }));
+            }
+            long disponiveis = sondas.stream().filter(f -> f.handle((v, e) -> e == null).join()).count();
+            System.out.println("sondas com recurso disponivel  " + disponiveis + "  " + motor.contadores());
+        }
+
     }
 
     // 10) Conversao de for para while
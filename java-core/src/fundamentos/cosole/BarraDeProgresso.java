@@ -0,0 +1,185 @@
+package fundamentos.cosole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BarraDeProgresso.java
+ *
+ * Barra de progresso para jobs com milhões de itens — a versão de ConsoleResumo.barraDeProgressoDemo
+ * que não refaz a barra a cada item.
+ * - Trabalhadores chamam avancar(): um LongAdder, sem trava compartilhada e sem I/O.
+ * - Uma thread daemon redesenha no máximo N vezes por segundo, num byte[] alocado uma vez.
+ * - Cada quadro: barra, percentual, vazão (itens/s suavizada) e ETA.
+ *
+ * Uso:
+ *   try (BarraDeProgresso barra = BarraDeProgresso.iniciar(total, 10, System.out)) {
+ *       ... em qualquer thread: barra.avancar(); ...
+ *   }   // close desenha o quadro final e quebra a linha
+ *
+ * Regras:
+ * - Quadro começa com '\r': funciona em terminal; em arquivo/pipe vira uma linha por quadro (use poucos quadros/s).
+ * - O destino não é fechado (costuma ser o System.out).
+ */
+public final class BarraDeProgresso implements AutoCloseable {
+
+    static final int LARGURA_BARRA = 30;
+    static final double SUAVIZACAO = 0.3;       // peso do último intervalo na vazão exibida
+
+    private final long total;
+    private final long intervaloNanos;
+    private final OutputStream destino;
+    private final LongAdder feitos = new LongAdder();
+    private final byte[] quadro = new byte[LARGURA_BARRA + 64];
+    private final Thread desenhista;
+
+    // só a thread que desenha mexe nestes
+    private final long inicio;
+    private long ultimoInstante;
+    private long ultimoFeito;
+    private double vazao = -1;
+
+    private BarraDeProgresso(long total, int quadrosPorSegundo, OutputStream destino) {
+        if (total <= 0) throw new IllegalArgumentException("total inválido");
+        if (quadrosPorSegundo <= 0 || quadrosPorSegundo > 1000) throw new IllegalArgumentException("quadros por segundo inválido");
+        this.total = total;
+        this.intervaloNanos = 1_000_000_000L / quadrosPorSegundo;
+        this.destino = Objects.requireNonNull(destino, "destino");
+        this.inicio = System.nanoTime();
+        this.ultimoInstante = inicio;
+        this.desenhista = Thread.ofPlatform().daemon().name("barra-de-progresso").unstarted(this::laco);
+    }
+
+    public static BarraDeProgresso iniciar(long total, int quadrosPorSegundo, OutputStream destino) {
+        BarraDeProgresso b = new BarraDeProgresso(total, quadrosPorSegundo, destino);
+        b.desenhista.start();
+        return b;
+    }
+
+    /* 1) TRABALHADORES */
+
+    public void avancar() { feitos.increment(); }
+
+    public void avancar(long n) { feitos.add(n); }
+
+    public long feitos() { return feitos.sum(); }
+
+    /* 2) DESENHO */
+
+    @Override
+    public void close() {
+        desenhista.interrupt();
+        try {
+            desenhista.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        desenhar(System.nanoTime(), true);
+    }
+
+    private void laco() {
+        long proximo = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            proximo += intervaloNanos;
+            long espera = proximo - System.nanoTime();
+            if (espera > 0) {
+                try {
+                    Thread.sleep(espera / 1_000_000, (int) (espera % 1_000_000));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            } else {
+                proximo = System.nanoTime();        // atrasou: não tenta compensar quadros perdidos
+            }
+            desenhar(System.nanoTime(), false);
+        }
+    }
+
+    // monta "\r[=====>    ]  45.0%  1.2M/s  ETA 00:01:23" no quadro e escreve de uma vez
+    void desenhar(long agora, boolean finalizar) {
+
+        long feito = Math.min(feitos.sum(), total);
+        long dt = agora - ultimoInstante;
+        if (dt > 0) {
+            double instantanea = (feito - ultimoFeito) * 1e9 / dt;
+            vazao = vazao < 0 ? instantanea : SUAVIZACAO * instantanea + (1 - SUAVIZACAO) * vazao;
+            ultimoInstante = agora;
+            ultimoFeito = feito;
+        }
+        if (finalizar) vazao = feito * 1e9 / Math.max(1, agora - inicio);      // no fim mostra a média do job
+
+        byte[] q = quadro;
+        int p = 0;
+        q[p++] = '\r';
+        q[p++] = '[';
+        int cheios = (int) (feito * LARGURA_BARRA / total);
+        for (int i = 0; i < LARGURA_BARRA; i++) q[p++] = (byte) (i < cheios ? '=' : i == cheios ? '>' : ' ');
+        q[p++] = ']';
+        q[p++] = ' ';
+        long milesimos = feito * 1000 / total;
+        p = numero(q, p, milesimos / 10, 3, ' ');
+        q[p++] = '.';
+        q[p++] = (byte) ('0' + milesimos % 10);
+        q[p++] = '%';
+        q[p++] = ' ';
+        q[p++] = ' ';
+        p = vazao(q, p, vazao);
+        q[p++] = '/';
+        q[p++] = 's';
+        q[p++] = ' ';
+        q[p++] = ' ';
+        q[p++] = 'E';
+        q[p++] = 'T';
+        q[p++] = 'A';
+        q[p++] = ' ';
+        long restante = total - feito;
+        long segundos = finalizar ? 0 : vazao > 0 ? (long) Math.ceil(restante / vazao) : -1;
+        if (segundos < 0 || segundos > 99L * 3600 + 3599) {
+            for (int i = 0; i < 8; i++) q[p++] = (byte) "--:--:--".charAt(i);
+        } else {
+            p = numero(q, p, segundos / 3600, 2, '0');
+            q[p++] = ':';
+            p = numero(q, p, segundos / 60 % 60, 2, '0');
+            q[p++] = ':';
+            p = numero(q, p, segundos % 60, 2, '0');
+        }
+        if (finalizar) q[p++] = '\n';
+
+        try {
+            destino.write(q, 0, p);
+            destino.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+    // v >= 0 com pelo menos 'largura' dígitos, completado à esquerda com 'enchimento'
+    private static int numero(byte[] q, int p, long v, int largura, char enchimento) {
+        int n = 1;
+        for (long t = v; t >= 10; t /= 10) n++;
+        for (int i = n; i < largura; i++) q[p++] = (byte) enchimento;
+        for (int i = p + n - 1; i >= p; i--, v /= 10) q[i] = (byte) ('0' + v % 10);
+        return p + n;
+    }
+
+    // 5 colunas fixas: "  950", "12.3k", " 4.5M", " 1.2G"
+    private static int vazao(byte[] q, int p, double v) {
+        if (v < 0) v = 0;
+        char sufixo = ' ';
+        if (v >= 1e9) { v /= 1e9; sufixo = 'G'; }
+        else if (v >= 1e6) { v /= 1e6; sufixo = 'M'; }
+        else if (v >= 1e3) { v /= 1e3; sufixo = 'k'; }
+        if (sufixo == ' ') return numero(q, p, Math.round(v), 5, ' ');
+        long decimos = Math.round(v * 10);
+        p = numero(q, p, decimos / 10, 3, ' ');
+        q[p++] = '.';
+        q[p++] = (byte) ('0' + decimos % 10);
+        q[p++] = (byte) sufixo;
+        return p;
+    }
+
+}
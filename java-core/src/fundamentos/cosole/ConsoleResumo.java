@@ -1,12 +1,18 @@
 package fundamentos.cosole;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.Console;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.nio.channels.Channels;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
@@ -15,8 +21,8 @@ import java.util.Scanner;
  * ConsoleResumo.java
  *
  * Guia prático de console em Java:
- * - Saída: System.out/err, println/printf/format, PrintWriter (flush), ANSI cores.
- * - Entrada: Scanner (tokens), BufferedReader (linhas cruamente), Console (se disponível).
+ * - Saída: System.out/err, println/printf/format, PrintWriter (flush), SaidaBufferizada, ANSI cores.
+ * - Entrada: Scanner (tokens), BufferedReader (linhas cruamente), Console (se disponível), LeitorDeNumeros (volume).
  * - Interativo: leitura robusta (loop + validação), senha sem eco, barra de progresso.
  * - Dicas: Locale em printf, charset, redirecionamento, quando usar logging.
  */
@@ -27,6 +33,7 @@ public class ConsoleResumo {
         saidaBasica();
         printfEFormat();
         coresAnsiETabelas();
+        leituraDeNumerosEmMassa();
         barraDeProgressoDemo();
 
         // Métodos interativos — descomente para testar no terminal
@@ -47,11 +54,18 @@ public class ConsoleResumo {
         // System.err para mensagens de erro/alerta (vai para o stderr, útil em pipes)
         System.err.println("[WARN] Isso é um aviso no stderr.");
 
-        // Crie um PrintWriter se quiser controle explícito de flushing:
-        try (PrintWriter out = new PrintWriter(System.out, true)) { // auto-flush = true
-            out.println("Usando PrintWriter com auto-flush.");
-            out.flush(); // redundante aqui, mas ilustra o uso
-        }
+        // Crie um PrintWriter se quiser controle explícito de flushing.
+        // Sem try-with-resources: fechar o PrintWriter fecharia o System.out junto e o resto do programa ficaria mudo.
+        PrintWriter out = new PrintWriter(System.out, true); // auto-flush = true
+        out.println("Usando PrintWriter com auto-flush.");
+        out.flush(); // redundante aqui, mas ilustra o uso
+
+        // Saída volumosa: buffer grande, UTF-8 direto e flush só quando a política manda.
+        // Um *Resumo.main pode optar com SaidaBufferizada.instalarNoSystemOut(...) na primeira linha.
+        SaidaBufferizada rapida = SaidaBufferizada.stdout(SaidaBufferizada.Politica.porTamanho(1 << 16));
+        System.out.flush(); // mantém a ordem: o que está no System.out sai antes
+        for (int i = 1; i <= 3; i++) rapida.escrever("linha bufferizada ").escrever(i).novaLinha();
+        rapida.flush();
 
     }
 
@@ -99,6 +113,19 @@ public class ConsoleResumo {
         System.out.printf("%-12s %10d %10.2f%n", "Teclado", 2, 120.0);
         System.out.printf("%-12s %10d %10.2f%n", "Mouse",   1,  80.5);
 
+        // Mesma tabela sem printf: layout compilado uma vez, buffer reaproveitado, escrita em blocos.
+        // Para relatórios enormes use o canal do stdout: new FileOutputStream(FileDescriptor.out).getChannel()
+        System.out.println("\nTabela com TabelaAnsi:");
+        TabelaAnsi tabela = new TabelaAnsi(Channels.newChannel(System.out), List.of(
+                TabelaAnsi.Coluna.texto("Produto", 12),
+                TabelaAnsi.Coluna.inteiro("Qtd", 10),
+                TabelaAnsi.Coluna.decimal("Preço", 10, 2)))
+                .usarCores(System.console() != null);            // sem ESC quando a saída é pipe/arquivo
+        tabela.cabecalho(TabelaAnsi.Estilo.NEGRITO);
+        tabela.texto("Teclado").inteiro(2).estilo(TabelaAnsi.Estilo.VERDE).decimal(120.0).fimDaLinha();
+        tabela.texto("Mouse").inteiro(1).estilo(TabelaAnsi.Estilo.VERMELHO).decimal(80.5).fimDaLinha();
+        tabela.descarregar();
+
     }
 
     // 4 - Scanner - leitura por tokens
@@ -190,6 +217,33 @@ public class ConsoleResumo {
 
     }
 
+    // 5.1 - entrada numérica volumosa (java App < numeros.txt)
+    // Scanner e split + parseInt alocam String por token e passam por regex: com GBs no pipe viram o gargalo.
+    // LeitorDeNumeros lê bytes do canal e converte sem String. Em produção: LeitorDeNumeros.stdin().
+    static void leituraDeNumerosEmMassa() {
+
+        System.out.println("\nLEITURA DE NÚMEROS EM MASSA (SEM SCANNER)");
+        byte[] entrada = "2\n10 20 30\n-1 2 -3\n1.5 2,5 1e3\n".getBytes(StandardCharsets.US_ASCII);
+        LeitorDeNumeros in = new LeitorDeNumeros(Channels.newChannel(new ByteArrayInputStream(entrada)));
+        int linhas = in.proximoInt();
+        System.out.printf("Soma das %d linhas de inteiros = %d%n", linhas, in.ints().limit(3L * linhas).sum());
+        System.out.printf("Decimais restantes somam %.1f%n", in.doubles().sum());
+
+        // Arquivo em disco com milhões de linhas "a b c": IngestaoMapeada mapeia e converte em fatias paralelas.
+        try {
+            Path arquivo = Files.createTempFile("numeros", ".txt");
+            Files.writeString(arquivo, "1 2 3\n-4 5 6\n7 8 -9\n");
+            try (IngestaoMapeada ing = new IngestaoMapeada(Runtime.getRuntime().availableProcessors())) {
+                System.out.println("Resumo por coluna: " + ing.resumir(arquivo, 3));
+            } finally {
+                Files.delete(arquivo);
+            }
+        } catch (IOException e) {
+            System.err.println("Erro de I/O: " + e.getMessage());
+        }
+
+    }
+
     // 6 - java.io.Console (se disponível)
     static void leituraComConsolePreferencial() {
 
@@ -243,6 +297,29 @@ public class ConsoleResumo {
             try { Thread.sleep(30); } catch (InterruptedException ignored) {}
         }
         System.out.println(); // quebra final
+
+        // Com milhões de itens, refazer a barra a cada passo custa mais que o próprio trabalho.
+        // BarraDeProgresso: os trabalhadores só incrementam um LongAdder; outra thread redesenha 10x por segundo.
+        System.out.println("== Barra de progresso (4 trabalhadores, 2 milhões de itens) ==");
+        long itens = 2_000_000;
+        int trabalhadores = 4;
+        try (BarraDeProgresso barra = BarraDeProgresso.iniciar(itens, 10, System.out)) {
+            Thread[] ts = new Thread[trabalhadores];
+            for (int t = 0; t < trabalhadores; t++) {
+                ts[t] = new Thread(() -> {
+                    for (long i = 0; i < itens / trabalhadores; i++) {
+                        if (i % 2_000 == 0) {
+                            try { Thread.sleep(1); } catch (InterruptedException e) { return; } // "trabalho"
+                        }
+                        barra.avancar(); // sem I/O, sem trava
+                    }
+                });
+                ts[t].start();
+            }
+            for (Thread t : ts) {
+                try { t.join(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            }
+        } // close desenha o quadro final (média de itens/s) e quebra a linha
     }
 
     /*
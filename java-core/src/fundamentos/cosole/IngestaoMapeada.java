@@ -0,0 +1,256 @@
+package fundamentos.cosole;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * IngestaoMapeada.java
+ *
+ * Arquivos texto grandes de inteiros, N por linha (o caso "três números por linha" de
+ * ConsoleResumo.leituraComBufferedReader), lidos em paralelo.
+ * - O arquivo é dividido em fatias que começam sempre depois de um '\n' — nenhuma linha fica partida.
+ * - Cada fatia é mapeada (FileChannel.map, READ_ONLY) e convertida por uma thread do pool, direto dos bytes.
+ * - Cada fatia devolve parciais próprios (soma/mínimo/máximo por coluna, ou um int[] de valores), fundidos na ordem do arquivo.
+ *
+ * Uso:
+ *   try (IngestaoMapeada ing = new IngestaoMapeada(Runtime.getRuntime().availableProcessors())) {
+ *       IngestaoMapeada.Resumo r = ing.resumir(arquivo, 3);
+ *   }
+ *
+ * Regras:
+ * - Paralelismo 1 é o caminho sequencial; como tudo é inteiro, qualquer paralelismo dá exatamente o mesmo resultado.
+ * - Linha: inteiros decimais com sinal opcional, separados por espaço/tab; '\r' antes do '\n' é aceito; linhas em branco são puladas.
+ * - Linha com outra quantidade de números, ou token que não é int, gera IllegalArgumentException com o byte da falha.
+ * - Sem linhas: mínimos ficam em Integer.MAX_VALUE e máximos em Integer.MIN_VALUE.
+ * - Use com try-with-resources: close encerra o pool.
+ */
+public final class IngestaoMapeada implements AutoCloseable {
+
+    static final long MAIOR_FATIA = 1L << 30;       // MappedByteBuffer indexa com int
+    static final long MENOR_FATIA = 1L << 20;       // abaixo disso dividir custa mais do que rende
+    static final int FATIAS_POR_THREAD = 4;         // folga para fatias que terminam antes
+
+    public record Resumo(long linhas, long[] somas, int[] minimos, int[] maximos) {
+
+        public int colunas() { return somas.length; }
+
+        public double media(int coluna) { return linhas == 0 ? Double.NaN : (double) somas[coluna] / linhas; }
+
+        @Override
+        public String toString() {
+            return "linhas=" + linhas + " somas=" + Arrays.toString(somas)
+                    + " minimos=" + Arrays.toString(minimos) + " maximos=" + Arrays.toString(maximos);
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    public IngestaoMapeada(int paralelismo) {
+        if (paralelismo <= 0) throw new IllegalArgumentException("paralelismo inválido");
+        this.pool = new ForkJoinPool(paralelismo);
+    }
+
+    public int paralelismo() { return pool.getParallelism(); }
+
+    /* 1) ENTRADAS */
+
+    public Resumo resumir(Path arquivo, int colunas) throws IOException {
+        Parcial total = new Parcial(colunas, 0);
+        for (Parcial p : processar(arquivo, colunas, false)) {
+            total.linhas += p.linhas;
+            for (int c = 0; c < colunas; c++) {
+                total.somas[c] = Math.addExact(total.somas[c], p.somas[c]);
+                total.minimos[c] = Math.min(total.minimos[c], p.minimos[c]);
+                total.maximos[c] = Math.max(total.maximos[c], p.maximos[c]);
+            }
+        }
+        return new Resumo(total.linhas, total.somas, total.minimos, total.maximos);
+    }
+
+    // todos os valores em ordem de arquivo  linha a linha (valores[linha * colunas + coluna])
+    public int[] carregar(Path arquivo, int colunas) throws IOException {
+        List<Parcial> parciais = processar(arquivo, colunas, true);
+        long n = 0;
+        for (Parcial p : parciais) n += p.quantos;
+        if (n > Integer.MAX_VALUE - 8) throw new IllegalStateException("valores demais para um int[]  " + n);
+        int[] valores = new int[(int) n];
+        int destino = 0;
+        for (Parcial p : parciais) {
+            System.arraycopy(p.valores, 0, valores, destino, p.quantos);
+            destino += p.quantos;
+        }
+        return valores;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /* 2) FATIAS */
+
+    private List<Parcial> processar(Path arquivo, int colunas, boolean guardar) throws IOException {
+
+        if (colunas <= 0) throw new IllegalArgumentException("colunas inválidas");
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long[] limites = fatias(ch);
+            List<Callable<Parcial>> tarefas = new ArrayList<>(limites.length - 1);
+            for (int f = 0; f + 1 < limites.length; f++) {
+                long ini = limites[f], fim = limites[f + 1];
+                tarefas.add(() -> converter(ch.map(FileChannel.MapMode.READ_ONLY, ini, fim - ini), ini, colunas, guardar));
+            }
+            List<Parcial> parciais = new ArrayList<>(tarefas.size());
+            for (Future<Parcial> f : pool.invokeAll(tarefas)) parciais.add(resultado(f));
+            return parciais;
+        }
+
+    }
+
+    // offsets [0  ...  tamanho]  cada fronteira interna avançada até logo depois de um '\n'
+    private long[] fatias(FileChannel ch) throws IOException {
+
+        long tamanho = ch.size();
+        long porTamanho = (tamanho + MAIOR_FATIA - 1) / MAIOR_FATIA;
+        long porThreads = Math.min((long) paralelismo() * FATIAS_POR_THREAD, (tamanho + MENOR_FATIA - 1) / MENOR_FATIA);
+        int n = (int) Math.max(1, Math.max(porTamanho, porThreads));
+
+        long[] limites = new long[n + 1];
+        limites[n] = tamanho;
+        ByteBuffer janela = ByteBuffer.allocate(4096);
+        for (int f = 1; f < n; f++) {
+            long p = Math.max(limites[f - 1], tamanho / n * f);
+            limites[f] = aposQuebra(ch, p, tamanho, janela);
+        }
+        return limites;
+
+    }
+
+    private static long aposQuebra(FileChannel ch, long p, long tamanho, ByteBuffer janela) throws IOException {
+        if (p == 0) return 0;
+        p--;                                        // fronteira que já cai logo depois de um '\n' fica onde está
+        while (p < tamanho) {
+            janela.clear();
+            int lidos = ch.read(janela, p);
+            if (lidos <= 0) break;
+            for (int i = 0; i < lidos; i++) {
+                if (janela.get(i) == '\n') return p + i + 1;
+            }
+            p += lidos;
+        }
+        return tamanho;
+    }
+
+    private static Parcial resultado(Future<Parcial> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ingestão interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException io) throw io;
+            if (causa instanceof UncheckedIOException io) throw io.getCause();
+            if (causa instanceof RuntimeException r) throw r;
+            if (causa instanceof Error err) throw err;
+            throw new IllegalStateException(causa);
+        }
+    }
+
+    /* 3) CONVERSÃO */
+
+    // 'base' é o offset da fatia no arquivo  só para a mensagem de erro
+    static Parcial converter(MappedByteBuffer m, long base, int colunas, boolean guardar) {
+
+        Parcial p = new Parcial(colunas, guardar ? Math.max(16, m.limit() / 8) : 0);
+        int lim = m.limit();
+        int i = 0;
+        while (i < lim) {
+            int c = 0;
+            while (true) {
+                byte b = 0;
+                while (i < lim && ((b = m.get(i)) == ' ' || b == '\t' || b == '\r')) i++;
+                if (i == lim || b == '\n') break;
+
+                int inicio = i;
+                boolean negativo = b == '-';
+                if (b == '-' || b == '+') i++;
+                long acc = 0;
+                int digitos = 0;
+                while (i < lim) {
+                    int d = m.get(i) - '0';
+                    if (d < 0 || d > 9) break;
+                    acc = acc * 10 + d;
+                    if (acc > 1L << 31) throw malformada("fora da faixa de int", base + inicio);
+                    i++;
+                    digitos++;
+                }
+                if (digitos == 0 || i < lim && !separador(m.get(i))) throw malformada("token não é inteiro", base + inicio);
+                long v = negativo ? -acc : acc;
+                if (v > Integer.MAX_VALUE) throw malformada("fora da faixa de int", base + inicio);
+                if (c == colunas) throw malformada("mais de " + colunas + " números na linha", base + inicio);
+                p.aceitar(c++, (int) v);
+            }
+            if (c != 0) {
+                if (c != colunas) throw malformada(c + " de " + colunas + " números na linha", base + i);
+                p.linhas++;
+            }
+            i++;                                    // o '\n'
+        }
+        return p;
+
+    }
+
+    private static boolean separador(byte b) { return b == ' ' || b == '\t' || b == '\r' || b == '\n'; }
+
+    private static IllegalArgumentException malformada(String motivo, long byteNoArquivo) {
+        return new IllegalArgumentException(motivo + " (byte " + byteNoArquivo + ")");
+    }
+
+    private static int[] preenchido(int n, int v) {
+        int[] a = new int[n];
+        Arrays.fill(a, v);
+        return a;
+    }
+
+    // parciais de uma fatia  só a thread que a converte escreve aqui
+    static final class Parcial {
+
+        long linhas;
+        final long[] somas;
+        final int[] minimos;
+        final int[] maximos;
+        int[] valores;
+        int quantos;
+
+        Parcial(int colunas, int capacidade) {
+            somas = new long[colunas];
+            minimos = preenchido(colunas, Integer.MAX_VALUE);
+            maximos = preenchido(colunas, Integer.MIN_VALUE);
+            valores = capacidade > 0 ? new int[capacidade] : null;
+        }
+
+        void aceitar(int coluna, int v) {
+            somas[coluna] += v;
+            if (v < minimos[coluna]) minimos[coluna] = v;
+            if (v > maximos[coluna]) maximos[coluna] = v;
+            if (valores != null) {
+                if (quantos == valores.length) valores = Arrays.copyOf(valores, quantos + (quantos >> 1));
+                valores[quantos++] = v;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package fundamentos.cosole;
+
+import fundamentos.objetovsprimitivo.ParserNumerico;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * LeitorDeNumeros.java
+ *
+ * Leitura de números separados por espaço/quebra de linha em arquivos de vários GB — substitui o
+ * Scanner.nextInt e o readLine().trim().split("\\s+") + parseInt de ConsoleResumo quando a entrada vem de um pipe.
+ * - Bytes direto do canal para um ByteBuffer direto grande (1 MB por padrão): sem Reader, sem decodificar charset.
+ * - Cada token é copiado para um byte[] reaproveitado e convertido pelo ParserNumerico: sem String, sem regex.
+ * - ints()/longs()/doubles() como streams primitivos; iteradores primitivos para laços manuais.
+ *
+ * Uso:
+ *   LeitorDeNumeros in = LeitorDeNumeros.stdin();
+ *   int n = in.proximoInt();
+ *   long soma = in.ints().limit(n).asLongStream().sum();
+ *
+ * Regras:
+ * - Separador é qualquer byte <= ' ' (espaço, tab, \r, \n), como no trim; decimal aceita ponto ou vírgula.
+ * - Token que não é número gera NumberFormatException; fim da entrada gera NoSuchElementException.
+ * - O canal não é fechado aqui. stdin() lê o fd 0 direto: não misture com System.in/Scanner no mesmo programa.
+ * - Não é thread-safe.
+ */
+public final class LeitorDeNumeros {
+
+    public static final int BUFFER_PADRAO = 1 << 20;
+    private static final int CARACTERISTICAS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private final ReadableByteChannel canal;
+    private final ByteBuffer buf;
+    private int pos;
+    private int lim;
+    private boolean fimDoCanal;
+
+    private byte[] token = new byte[64];
+    private int tamanho;                    // bytes do último token lido
+    private final ParserNumerico.Resultado r = new ParserNumerico.Resultado();
+
+    public LeitorDeNumeros(ReadableByteChannel canal) { this(canal, BUFFER_PADRAO); }
+
+    public LeitorDeNumeros(ReadableByteChannel canal, int tamanhoDoBuffer) {
+        this.canal = Objects.requireNonNull(canal, "canal");
+        if (tamanhoDoBuffer < 16) throw new IllegalArgumentException("buffer pequeno demais");
+        this.buf = ByteBuffer.allocateDirect(tamanhoDoBuffer);
+    }
+
+    public static LeitorDeNumeros stdin() {
+        return new LeitorDeNumeros(new FileInputStream(FileDescriptor.in).getChannel());
+    }
+
+    /* 1) TOKENS */
+
+    // pula separadores  false quando só resta fim da entrada
+    public boolean temProximo() {
+        while (true) {
+            for (int p = pos; p < lim; p++) {
+                if ((buf.get(p) & 0xFF) > ' ') {
+                    pos = p;
+                    return true;
+                }
+            }
+            pos = lim;
+            if (!encher()) return false;
+        }
+    }
+
+    public int proximoInt() {
+        lerToken();
+        if (ParserNumerico.parseInt(token, 0, tamanho, r)) return r.comoInt();
+        throw invalido("int");
+    }
+
+    public long proximoLong() {
+        lerToken();
+        if (ParserNumerico.parseLong(token, 0, tamanho, r)) return r.comoLong();
+        throw invalido("long");
+    }
+
+    public double proximoDouble() {
+        lerToken();
+        if (ParserNumerico.parseDouble(token, 0, tamanho, r)) return r.comoDouble();
+        throw invalido("double");
+    }
+
+    /* 2) ITERADORES E STREAMS */
+
+    public PrimitiveIterator.OfInt iteradorDeInts() {
+        return new PrimitiveIterator.OfInt() {
+            @Override public boolean hasNext() { return temProximo(); }
+            @Override public int nextInt() { return proximoInt(); }
+        };
+    }
+
+    public PrimitiveIterator.OfLong iteradorDeLongs() {
+        return new PrimitiveIterator.OfLong() {
+            @Override public boolean hasNext() { return temProximo(); }
+            @Override public long nextLong() { return proximoLong(); }
+        };
+    }
+
+    public PrimitiveIterator.OfDouble iteradorDeDoubles() {
+        return new PrimitiveIterator.OfDouble() {
+            @Override public boolean hasNext() { return temProximo(); }
+            @Override public double nextDouble() { return proximoDouble(); }
+        };
+    }
+
+    // sequenciais: o canal é lido em ordem, parallel() não ajuda aqui
+    public IntStream ints() {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iteradorDeInts(), CARACTERISTICAS), false);
+    }
+
+    public LongStream longs() {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iteradorDeLongs(), CARACTERISTICAS), false);
+    }
+
+    public DoubleStream doubles() {
+        return StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(iteradorDeDoubles(), CARACTERISTICAS), false);
+    }
+
+    /* APOIO */
+
+    // copia o próximo token para 'token'  atravessa a fronteira do buffer quando precisa
+    private void lerToken() {
+        if (!temProximo()) throw new NoSuchElementException("fim da entrada");
+        int n = 0;
+        byte[] t = token;
+        while (true) {
+            int p = pos;
+            for (; p < lim; p++) {
+                byte c = buf.get(p);
+                if ((c & 0xFF) <= ' ') break;
+                if (n == t.length) token = t = Arrays.copyOf(t, 2 * n);
+                t[n++] = c;
+            }
+            pos = p;
+            if (p < lim || !encher()) break;
+        }
+        tamanho = n;
+    }
+
+    private boolean encher() {
+        if (fimDoCanal) return false;
+        buf.clear();
+        try {
+            int lidos;
+            do {
+                lidos = canal.read(buf);
+            } while (lidos == 0);
+            if (lidos < 0) {
+                fimDoCanal = true;
+                lim = pos = 0;
+                return false;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pos = 0;
+        lim = buf.position();
+        return true;
+    }
+
+    private NumberFormatException invalido(String tipo) {
+        String texto = new String(token, 0, Math.min(tamanho, 80), StandardCharsets.UTF_8);
+        String motivo = r.status() == ParserNumerico.ESTOURO ? "fora da faixa de " : "não é ";
+        return new NumberFormatException("token '" + texto + "' " + motivo + tipo);
+    }
+
+}
@@ -0,0 +1,456 @@
+package fundamentos.cosole;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SaidaBufferizada.java
+ *
+ * Saída de console com buffer grande e política de flush explícita — o "PrintWriter (flush)" que o
+ * cabeçalho de ConsoleResumo menciona, sem o custo do System.out (sincronizado, auto-flush a cada linha).
+ * - Escreve em FileOutputStream(FileDescriptor.out) ou em qualquer OutputStream.
+ * - Codifica UTF-8 direto no byte[] do buffer: não passa pelo charset padrão nem pelo encoder do PrintStream.
+ * - Política: por tamanho (acumula N bytes), por tempo (no máximo T ms de atraso, thread daemon),
+ *   por linha (interativo, como o System.out) ou só explícita (flush/close ou buffer cheio).
+ * - comoPrintStream(): adaptador compatível com System.out para os *Resumo.main optarem com uma linha.
+ *
+ * Uso:
+ *   SaidaBufferizada out = SaidaBufferizada.instalarNoSystemOut(Politica.porTempo(100));
+ *   ... System.out.println(...) como antes ...
+ *   out.flush();   // ou deixe o gancho de desligamento descarregar
+ *
+ * Regras:
+ * - Thread-safe com ReentrantLock (não prende thread virtual como synchronized).
+ * - Erro de escrita vira UncheckedIOException; no adaptador vira checkError() == true, como no PrintStream.
+ * - close() não fecha o descritor do stdout — outras partes do processo continuam podendo escrever nele.
+ */
+public final class SaidaBufferizada implements Flushable, Closeable {
+
+    /**
+     * limiteBytes: descarrega ao acumular isso (limitado ao tamanho do buffer).
+     * intervaloMs: > 0 liga o flush periódico.
+     * porLinha:    descarrega a cada '\n' — só para uso interativo.
+     */
+    public record Politica(int limiteBytes, long intervaloMs, boolean porLinha) {
+
+        public Politica {
+            if (limiteBytes <= 0) throw new IllegalArgumentException("limite inválido");
+            if (intervaloMs < 0) throw new IllegalArgumentException("intervalo inválido");
+        }
+
+        public static Politica explicita() { return new Politica(Integer.MAX_VALUE, 0, false); }
+        public static Politica porTamanho(int bytes) { return new Politica(bytes, 0, false); }
+        public static Politica porTempo(long ms) { return new Politica(Integer.MAX_VALUE, ms, false); }
+        public static Politica interativa() { return new Politica(Integer.MAX_VALUE, 0, true); }
+
+        public Politica comIntervalo(long ms) { return new Politica(limiteBytes, ms, porLinha); }
+    }
+
+    public static final int BUFFER_PADRAO = 1 << 18;
+
+    private final OutputStream destino;
+    private final boolean fecharDestino;
+    private final byte[] buf;
+    private final int limite;
+    private final boolean porLinha;
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Thread relogio;
+
+    // protegidos por 'trava'
+    private int pos;
+    private char altoPendente;          // surrogate alto esperando o baixo da próxima escrita
+    private boolean fechada;
+
+    public SaidaBufferizada(OutputStream destino, Politica politica, int tamanhoDoBuffer) {
+        this(destino, true, politica, tamanhoDoBuffer);
+    }
+
+    private SaidaBufferizada(OutputStream destino, boolean fecharDestino, Politica politica, int tamanhoDoBuffer) {
+        this.destino = Objects.requireNonNull(destino, "destino");
+        Objects.requireNonNull(politica, "politica");
+        if (tamanhoDoBuffer < 64) throw new IllegalArgumentException("buffer pequeno demais");
+        this.fecharDestino = fecharDestino;
+        this.buf = new byte[tamanhoDoBuffer];
+        this.limite = Math.min(politica.limiteBytes(), tamanhoDoBuffer);
+        this.porLinha = politica.porLinha();
+        this.relogio = politica.intervaloMs() == 0 ? null
+                : Thread.ofPlatform().daemon().name("saida-bufferizada").start(() -> periodico(politica.intervaloMs()));
+    }
+
+    public static SaidaBufferizada stdout(Politica politica) {
+        return new SaidaBufferizada(new FileOutputStream(FileDescriptor.out), false, politica, BUFFER_PADRAO);
+    }
+
+    // troca o System.out pelo adaptador e garante o flush na saída do processo
+    public static SaidaBufferizada instalarNoSystemOut(Politica politica) {
+        System.out.flush();                 // o que já foi escrito sai antes, na ordem
+        SaidaBufferizada saida = stdout(politica);
+        System.setOut(saida.comoPrintStream());
+        Runtime.getRuntime().addShutdownHook(new Thread(saida::flush, "saida-bufferizada-final"));
+        return saida;
+    }
+
+    /* 1) ESCRITA */
+
+    public SaidaBufferizada escrever(CharSequence s) {
+        trava.lock();
+        try {
+            boolean quebra = escreverTexto(s == null ? "null" : s);
+            depoisDeEscrever(quebra);
+        } finally {
+            trava.unlock();
+        }
+        return this;
+    }
+
+    public SaidaBufferizada escrever(char c) {
+        trava.lock();
+        try {
+            escreverChar(c);
+            depoisDeEscrever(c == '\n');
+        } finally {
+            trava.unlock();
+        }
+        return this;
+    }
+
+    public SaidaBufferizada escrever(long v) {
+        trava.lock();
+        try {
+            resolverPendente();
+            garantir(20);
+            pos = digitos(v, buf, pos);
+            depoisDeEscrever(false);
+        } finally {
+            trava.unlock();
+        }
+        return this;
+    }
+
+    public SaidaBufferizada escreverLinha(CharSequence s) {
+        trava.lock();
+        try {
+            escreverTexto(s == null ? "null" : s);
+            escreverChar('\n');
+            depoisDeEscrever(true);
+        } finally {
+            trava.unlock();
+        }
+        return this;
+    }
+
+    public SaidaBufferizada novaLinha() { return escrever('\n'); }
+
+    // bytes já codificados — passam direto
+    public void escreverBytes(byte[] b, int ini, int n) {
+        Objects.checkFromIndexSize(ini, n, b.length);
+        trava.lock();
+        try {
+            resolverPendente();
+            if (n >= buf.length) {          // bloco grande: esvazia e escreve sem copiar
+                descarregar();
+                destino.write(b, ini, n);
+            } else {
+                garantir(n);
+                System.arraycopy(b, ini, buf, pos, n);
+                pos += n;
+            }
+            depoisDeEscrever(porLinha && contemQuebra(b, ini, n));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /* 2) FLUSH */
+
+    @Override
+    public void flush() {
+        trava.lock();
+        try {
+            descarregar();
+            destino.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        trava.lock();
+        try {
+            if (fechada) return;
+            fechada = true;
+            resolverPendente();
+            flush();
+            if (fecharDestino) destino.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.unlock();
+        }
+        if (relogio != null) relogio.interrupt();
+    }
+
+    public PrintStream comoPrintStream() { return new Adaptador(this); }
+
+    /* APOIO */  // todos chamados com 'trava'
+
+    private boolean escreverTexto(CharSequence s) {
+        int n = s.length();
+        int i = 0;
+        while (i < n && altoPendente != 0) escreverChar(s.charAt(i++));
+        // surrogate alto no fim fica pendente: o baixo pode vir na próxima escrita
+        int fimTexto = n;
+        char pendente = 0;
+        if (fimTexto > i && Character.isHighSurrogate(s.charAt(fimTexto - 1))) pendente = s.charAt(--fimTexto);
+        boolean quebra = false;
+        while (i < fimTexto) {
+            int cabe = (buf.length - pos) / 3;
+            if (cabe < 2) {
+                descarregar();
+                continue;
+            }
+            int fim = Math.min(fimTexto, i + cabe);
+            if (fim < fimTexto && Character.isHighSurrogate(s.charAt(fim - 1))) fim--;     // não separa um par
+            if (porLinha && !quebra) quebra = contemQuebra(s, i, fim);
+            pos = Utf8.codificar(s, i, fim, buf, pos);
+            i = fim;
+        }
+        if (pendente != 0) altoPendente = pendente;
+        return quebra;
+    }
+
+    private void escreverChar(char c) {
+        garantir(4);
+        if (altoPendente != 0) {
+            char alto = altoPendente;
+            altoPendente = 0;
+            if (Character.isLowSurrogate(c)) {
+                pos = Utf8.codificarPar(alto, c, buf, pos);
+                return;
+            }
+            buf[pos++] = '?';
+        }
+        if (c < 0x80) {
+            buf[pos++] = (byte) c;
+        } else if (c < 0x800) {
+            buf[pos++] = (byte) (0xC0 | c >> 6);
+            buf[pos++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            altoPendente = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buf[pos++] = '?';
+        } else {
+            buf[pos++] = (byte) (0xE0 | c >> 12);
+            buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buf[pos++] = (byte) (0x80 | c & 0x3F);
+        }
+    }
+
+    private void resolverPendente() {
+        if (altoPendente != 0) {
+            altoPendente = 0;
+            garantir(1);
+            buf[pos++] = '?';
+        }
+    }
+
+    private void depoisDeEscrever(boolean quebra) {
+        if (pos >= limite || (porLinha && quebra)) {
+            try {
+                descarregar();
+                destino.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void garantir(int n) {
+        if (buf.length - pos < n) descarregar();
+    }
+
+    private void descarregar() {
+        if (pos == 0) return;
+        try {
+            destino.write(buf, 0, pos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            pos = 0;
+        }
+    }
+
+    private void periodico(long intervaloMs) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(intervaloMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            trava.lock();
+            try {
+                if (fechada) return;
+                if (pos > 0) flush();
+            } catch (UncheckedIOException e) {
+                // a próxima escrita no fluxo principal relata o erro
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    private static boolean contemQuebra(CharSequence s, int ini, int fim) {
+        for (int i = ini; i < fim; i++) {
+            if (s.charAt(i) == '\n') return true;
+        }
+        return false;
+    }
+
+    private static boolean contemQuebra(byte[] b, int ini, int n) {
+        for (int i = ini; i < ini + n; i++) {
+            if (b[i] == '\n') return true;
+        }
+        return false;
+    }
+
+    private static int digitos(long v, byte[] b, int p) {
+        if (v == 0) {
+            b[p] = '0';
+            return p + 1;
+        }
+        int n = 0;
+        for (long q = v; q != 0; q /= 10) n++;
+        if (v < 0) b[p++] = '-';
+        int fim = p + n;
+        for (long q = v; q != 0; q /= 10) b[--fim] = (byte) ('0' + Math.abs(q % 10));
+        return p + n;
+    }
+
+    /**
+     * PrintStream que escreve na SaidaBufferizada — todos os print/println vão direto para o buffer.
+     * O OutputStream interno só recebe bytes crus (write); texto nunca passa pelo encoder do PrintStream.
+     */
+    static final class Adaptador extends PrintStream {
+
+        private final SaidaBufferizada saida;
+
+        Adaptador(SaidaBufferizada saida) {
+            super(new OutputStream() {
+                @Override public void write(int b) { saida.escreverBytes(new byte[]{(byte) b}, 0, 1); }
+                @Override public void write(byte[] b, int ini, int n) { saida.escreverBytes(b, ini, n); }
+            }, false, StandardCharsets.UTF_8);
+            this.saida = saida;
+        }
+
+        private void texto(CharSequence s) {
+            try {
+                saida.escrever(s);
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+        private void linha(CharSequence s) {
+            try {
+                saida.escreverLinha(s);
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+        @Override public void print(String s) { texto(s); }
+        @Override public void print(Object o) { texto(String.valueOf(o)); }
+        @Override public void print(char[] s) { texto(CharBuffer.wrap(s)); }
+        @Override public void print(boolean b) { texto(b ? "true" : "false"); }
+        @Override public void print(float f) { texto(String.valueOf(f)); }
+        @Override public void print(double d) { texto(String.valueOf(d)); }
+
+        @Override
+        public void print(char c) {
+            try {
+                saida.escrever(c);
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+        @Override public void print(int i) { print((long) i); }
+
+        @Override
+        public void print(long l) {
+            try {
+                saida.escrever(l);
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+        @Override public void println() { print('\n'); }
+        @Override public void println(String s) { linha(s); }
+        @Override public void println(Object o) { linha(String.valueOf(o)); }
+        @Override public void println(char[] s) { linha(CharBuffer.wrap(s)); }
+        @Override public void println(boolean b) { linha(b ? "true" : "false"); }
+        @Override public void println(float f) { linha(String.valueOf(f)); }
+        @Override public void println(double d) { linha(String.valueOf(d)); }
+
+        // print + quebra sob a mesma trava: linhas de threads diferentes não se misturam
+        @Override
+        public void println(char c) {
+            saida.trava.lock();
+            try {
+                print(c);
+                println();
+            } finally {
+                saida.trava.unlock();
+            }
+        }
+
+        @Override public void println(int i) { println((long) i); }
+
+        @Override
+        public void println(long l) {
+            saida.trava.lock();
+            try {
+                print(l);
+                println();
+            } finally {
+                saida.trava.unlock();
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                saida.flush();
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                saida.close();
+            } catch (UncheckedIOException e) {
+                setError();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+package fundamentos.cosole;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * TabelaAnsi.java
+ *
+ * Renderizador de tabelas para relatórios grandes no console — substitui o printf por linha de
+ * ConsoleResumo.coresAnsiETabelas quando são 100 mil linhas ou mais.
+ * - Layout compilado uma vez: largura, alinhamento e tipo de cada coluna (nada de parsear "%-12s" por linha).
+ * - Cada célula é escrita direto em UTF-8 num byte[] reaproveitado, com preenchimento e estilo ANSI.
+ * - O buffer vai para o canal em blocos grandes (64 KB por padrão), não a cada quebra de linha.
+ * - Sem alocação por linha: inteiros e decimais viram dígitos no próprio buffer.
+ *
+ * Uso:
+ *   TabelaAnsi t = new TabelaAnsi(canal, List.of(Coluna.texto("Produto", 12), Coluna.inteiro("Qtd", 10), Coluna.decimal("Preço", 10, 2)));
+ *   t.cabecalho(Estilo.NEGRITO);
+ *   t.texto("Teclado").inteiro(2).estilo(Estilo.VERDE).decimal(120.0).fimDaLinha();
+ *   t.descarregar();
+ *
+ * Regras:
+ * - Mesmo resultado de printf("%-12s %10d %10.2f%n") com Locale.ROOT: colunas separadas por um espaço,
+ *   conteúdo maior que a largura não é cortado, decimal arredondado HALF_UP sobre os dígitos do Double.toString.
+ * - O canal não é fechado aqui (pode ser o stdout); descarregar() ao terminar.
+ * - Não é thread-safe: uma tabela por thread.
+ */
+public final class TabelaAnsi implements Flushable {
+
+    public enum Alinhamento { ESQUERDA, DIREITA }
+
+    public enum Estilo {
+        NEGRITO(1), VERMELHO(31), VERDE(32), AMARELO(33), AZUL(34), CIANO(36);
+
+        private final byte[] codigo;
+
+        Estilo(int sgr) { this.codigo = ("\u001B[" + sgr + "m").getBytes(StandardCharsets.US_ASCII); }
+    }
+
+    private static final byte[] RESET = {0x1B, '[', '0', 'm'};
+    private static final long[] POTENCIAS = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    // colunas de texto alinham à esquerda, números à direita — como %-Ns e %Nd
+    public record Coluna(String titulo, int largura, Alinhamento alinhamento, int casas) {
+
+        public Coluna {
+            Objects.requireNonNull(titulo, "titulo");
+            Objects.requireNonNull(alinhamento, "alinhamento");
+            if (largura < 0) throw new IllegalArgumentException("largura inválida");
+            if (casas < -1 || casas >= POTENCIAS.length) throw new IllegalArgumentException("casas inválidas");
+        }
+
+        public static Coluna texto(String titulo, int largura) { return new Coluna(titulo, largura, Alinhamento.ESQUERDA, -1); }
+        public static Coluna inteiro(String titulo, int largura) { return new Coluna(titulo, largura, Alinhamento.DIREITA, -1); }
+        public static Coluna decimal(String titulo, int largura, int casas) { return new Coluna(titulo, largura, Alinhamento.DIREITA, casas); }
+    }
+
+    private final WritableByteChannel canal;
+    private final Coluna[] colunas;
+    private ByteBuffer saida;
+    private byte[] buf;
+    private boolean cores = true;
+
+    // cursor da linha atual
+    private int coluna;
+    private Estilo estiloDaCelula;
+    private final byte[] digitos = new byte[400];      // cabe qualquer double com até 8 casas
+
+    public TabelaAnsi(WritableByteChannel canal, List<Coluna> colunas) { this(canal, colunas, 1 << 16); }
+
+    public TabelaAnsi(WritableByteChannel canal, List<Coluna> colunas, int tamanhoDoBuffer) {
+        this.canal = Objects.requireNonNull(canal, "canal");
+        if (colunas.isEmpty()) throw new IllegalArgumentException("sem colunas");
+        if (tamanhoDoBuffer < 256) throw new IllegalArgumentException("buffer pequeno demais");
+        this.colunas = colunas.toArray(new Coluna[0]);
+        this.buf = new byte[tamanhoDoBuffer];
+        this.saida = ByteBuffer.wrap(buf);
+    }
+
+    // desligue quando a saída não é um terminal (pipe, arquivo): nenhum código ESC é escrito
+    public TabelaAnsi usarCores(boolean cores) {
+        this.cores = cores;
+        return this;
+    }
+
+    /* 1) LINHAS */
+
+    public TabelaAnsi cabecalho(Estilo estilo) {
+        if (coluna != 0) throw new IllegalStateException("cabeçalho no meio de uma linha");
+        for (Coluna c : colunas) {
+            estilo(estilo);
+            texto(c.titulo);
+        }
+        return fimDaLinha();
+    }
+
+    // aplica só à próxima célula
+    public TabelaAnsi estilo(Estilo estilo) {
+        this.estiloDaCelula = estilo;
+        return this;
+    }
+
+    public TabelaAnsi texto(CharSequence s) {
+        Coluna c = proxima();
+        celulaDeTexto(s, c.largura, c.alinhamento);
+        return this;
+    }
+
+    public TabelaAnsi inteiro(long v) {
+        Coluna c = proxima();
+        int ini = digitosDe(v);
+        celulaDeBytes(digitos, ini, digitos.length - ini, c.largura, c.alinhamento);
+        return this;
+    }
+
+    public TabelaAnsi decimal(double v) {
+        Coluna c = proxima();
+        if (c.casas < 0) throw new IllegalStateException("coluna " + c.titulo + " não é decimal");
+        int ini = decimalDe(v, c.casas);
+        celulaDeBytes(digitos, ini, digitos.length - ini, c.largura, c.alinhamento);
+        return this;
+    }
+
+    public TabelaAnsi fimDaLinha() {
+        if (coluna != colunas.length) throw new IllegalStateException("linha incompleta  " + coluna + " de " + colunas.length);
+        garantir(1);                            // sem ler o buffer de volta: um descarregar() no meio da linha o deixa vazio
+        saida.put((byte) '\n');
+        coluna = 0;
+        return this;
+    }
+
+    /* 2) SAÍDA */
+
+    // esvazia o buffer no canal — chamado sozinho quando enche
+    @Override
+    public void flush() { descarregar(); }
+
+    public void descarregar() {
+        saida.flip();
+        try {
+            while (saida.hasRemaining()) canal.write(saida);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            saida.clear();
+        }
+    }
+
+    /* APOIO */
+
+    private Coluna proxima() {
+        if (coluna == colunas.length) throw new IllegalStateException("linha já tem " + colunas.length + " colunas");
+        return colunas[coluna++];
+    }
+
+    private void celulaDeTexto(CharSequence s, int largura, Alinhamento al) {
+        int n = s.length();
+        int espacos = Math.max(0, largura - n);
+        abrirEstilo(3 * n + espacos);
+        if (al == Alinhamento.DIREITA) preencher(espacos);
+        saida.position(Utf8.codificar(s, 0, n, buf, saida.position()));
+        if (al == Alinhamento.ESQUERDA) preencher(espacos);
+        fecharEstilo();
+    }
+
+    private void celulaDeBytes(byte[] b, int ini, int n, int largura, Alinhamento al) {
+        int espacos = Math.max(0, largura - n);
+        abrirEstilo(n + espacos);
+        if (al == Alinhamento.DIREITA) preencher(espacos);
+        saida.put(b, ini, n);
+        if (al == Alinhamento.ESQUERDA) preencher(espacos);
+        fecharEstilo();
+    }
+
+    // reserva o pior caso da célula: separador + estilo + conteúdo + reset
+    // o separador vai antes de cada célula menos a primeira; fimDaLinha só acrescenta o '\n'
+    private void abrirEstilo(int conteudo) {
+        garantir(conteudo + 16);
+        if (coluna > 1) saida.put((byte) ' ');
+        if (cores && estiloDaCelula != null) saida.put(estiloDaCelula.codigo);
+    }
+
+    private void fecharEstilo() {
+        if (cores && estiloDaCelula != null) saida.put(RESET);
+        estiloDaCelula = null;
+    }
+
+    private void preencher(int n) {
+        int p = saida.position();
+        for (int i = 0; i < n; i++) buf[p + i] = ' ';
+        saida.position(p + n);
+    }
+
+    private void garantir(int n) {
+        if (saida.remaining() >= n) return;
+        descarregar();
+        if (buf.length < n) {                   // célula maior que o buffer inteiro
+            buf = new byte[Integer.highestOneBit(n) << 1];
+            saida = ByteBuffer.wrap(buf);
+        }
+    }
+
+    // dígitos de v no fim de 'digitos' — devolve o índice inicial
+    private int digitosDe(long v) {
+        int p = digitos.length;
+        long q = v < 0 ? v : -v;                // trabalha no negativo: cobre Long.MIN_VALUE
+        do {
+            digitos[--p] = (byte) ('0' - q % 10);
+            q /= 10;
+        } while (q != 0);
+        if (v < 0) digitos[--p] = '-';
+        return p;
+    }
+
+    private int decimalDe(double v, int casas) {
+
+        if (Double.isNaN(v)) return ascii("NaN");
+        if (Double.isInfinite(v)) return ascii(v > 0 ? "Infinity" : "-Infinity");
+        boolean negativo = Double.doubleToRawLongBits(v) < 0;     // -0.0 sai "-0.00" como no printf
+        double a = Math.abs(v);
+        double escalado = a * POTENCIAS[casas];
+        long inteiro;
+        double frac = escalado - Math.floor(escalado);
+        // abaixo de 1e9 o erro do produto fica bem menor que 1e-6: longe do meio o arredondamento não muda
+        if (escalado < 1e9 && Math.abs(frac - 0.5) > 1e-6) {
+            inteiro = (long) Math.floor(escalado) + (frac > 0.5 ? 1 : 0);
+        } else {
+            // perto do meio ou grande — HALF_UP sobre os dígitos decimais do double, como o Formatter
+            BigDecimal d = BigDecimal.valueOf(a).setScale(casas, RoundingMode.HALF_UP);
+            if (d.precision() > 18) return ascii((negativo ? "-" : "") + d.toPlainString());
+            inteiro = d.unscaledValue().longValue();
+        }
+
+        int p = digitos.length;
+        for (int i = 0; i < casas; i++) {
+            digitos[--p] = (byte) ('0' + inteiro % 10);
+            inteiro /= 10;
+        }
+        if (casas > 0) digitos[--p] = '.';
+        do {
+            digitos[--p] = (byte) ('0' + inteiro % 10);
+            inteiro /= 10;
+        } while (inteiro != 0);
+        if (negativo) digitos[--p] = '-';
+        return p;
+
+    }
+
+    private int ascii(String s) {
+        int p = digitos.length - s.length();
+        for (int i = 0; i < s.length(); i++) digitos[p + i] = (byte) s.charAt(i);
+        return p;
+    }
+
+}
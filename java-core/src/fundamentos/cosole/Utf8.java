@@ -0,0 +1,46 @@
+package fundamentos.cosole;
+
+/**
+ * Utf8.java
+ *
+ * Codificação UTF-8 direto num byte[] — usada por TabelaAnsi e SaidaBufferizada para não passar
+ * pelo CharsetEncoder do PrintStream.
+ * - Até 3 bytes por char; pares de surrogates viram 4 bytes.
+ * - Surrogate solto vira '?', o mesmo substituto do encoder padrão.
+ */
+final class Utf8 {
+
+    private Utf8() { }
+
+    // quem chama garante espaço para 3 * (fim - ini) bytes a partir de p — devolve a nova posição
+    static int codificar(CharSequence s, int ini, int fim, byte[] dst, int p) {
+        for (int i = ini; i < fim; i++) {
+            char ch = s.charAt(i);
+            if (ch < 0x80) {
+                dst[p++] = (byte) ch;
+            } else if (ch < 0x800) {
+                dst[p++] = (byte) (0xC0 | ch >> 6);
+                dst[p++] = (byte) (0x80 | ch & 0x3F);
+            } else if (!Character.isSurrogate(ch)) {
+                dst[p++] = (byte) (0xE0 | ch >> 12);
+                dst[p++] = (byte) (0x80 | ch >> 6 & 0x3F);
+                dst[p++] = (byte) (0x80 | ch & 0x3F);
+            } else if (Character.isHighSurrogate(ch) && i + 1 < fim && Character.isLowSurrogate(s.charAt(i + 1))) {
+                p = codificarPar(ch, s.charAt(++i), dst, p);
+            } else {
+                dst[p++] = '?';
+            }
+        }
+        return p;
+    }
+
+    static int codificarPar(char alto, char baixo, byte[] dst, int p) {
+        int cp = Character.toCodePoint(alto, baixo);
+        dst[p++] = (byte) (0xF0 | cp >> 18);
+        dst[p++] = (byte) (0x80 | cp >> 12 & 0x3F);
+        dst[p++] = (byte) (0x80 | cp >> 6 & 0x3F);
+        dst[p++] = (byte) (0x80 | cp & 0x3F);
+        return p;
+    }
+
+}
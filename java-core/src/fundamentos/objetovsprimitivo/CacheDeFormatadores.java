@@ -0,0 +1,118 @@
+package fundamentos.objetovsprimitivo;
+
+import java.text.NumberFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CacheDeFormatadores.java
+ *
+ * Cache de NumberFormat por locale para os exemplos de ConversaoNumeroStringResumo.
+ *
+ * Conteudo
+ * 1) Problema  NumberFormat.getXInstance eh caro e a instancia devolvida NAO eh thread-safe
+ * 2) Prototipos  um por (tipo  locale  casas) num ConcurrentHashMap  criado uma unica vez
+ * 3) Copias por thread  clone do prototipo num LRU confinado a thread  sem lock global
+ * 4) Limite  cada thread guarda no maximo 'capacidadePorThread' formatadores  o mais antigo sai
+ * 5) Estatisticas  acertos  faltas (cada falta eh um clone)  prototipos e despejos em LongAdder
+ *
+ * Regras
+ * - nao compartilhe o formatador devolvido com outra thread
+ * - nao altere a configuracao dele  use a sobrecarga com casas decimais
+ *   pois a mesma instancia volta na proxima chamada da thread
+ */
+public final class CacheDeFormatadores {
+
+    public enum Tipo { NUMERO, MOEDA, PORCENTAGEM }
+
+    // casas = -1 mantem o padrao do locale
+    record Chave(Tipo tipo, Locale locale, int casas) { }
+
+    public record Estatisticas(long acertos, long faltas, long prototipos, long despejos) {
+        public double taxaDeAcerto() {
+            long total = acertos + faltas;
+            return total == 0 ? 0 : (double) acertos / total;
+        }
+    }
+
+    private static final CacheDeFormatadores PADRAO = new CacheDeFormatadores(32);
+
+    private final int capacidadePorThread;
+    private final ConcurrentHashMap<Chave, NumberFormat> prototipos = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<Chave, NumberFormat>> porThread;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder prototiposCriados = new LongAdder();
+    private final LongAdder despejos = new LongAdder();
+
+    public CacheDeFormatadores(int capacidadePorThread) {
+        if (capacidadePorThread <= 0) throw new IllegalArgumentException("capacidade invalida");
+        this.capacidadePorThread = capacidadePorThread;
+        this.porThread = ThreadLocal.withInitial(this::novoLru);
+    }
+
+    public static CacheDeFormatadores padrao() { return PADRAO; }
+
+    public NumberFormat numero(Locale locale) { return obter(Tipo.NUMERO, locale, -1); }
+    public NumberFormat moeda(Locale locale) { return obter(Tipo.MOEDA, locale, -1); }
+    public NumberFormat porcentagem(Locale locale) { return obter(Tipo.PORCENTAGEM, locale, -1); }
+    public NumberFormat porcentagem(Locale locale, int casasMinimas) { return obter(Tipo.PORCENTAGEM, locale, casasMinimas); }
+
+    public NumberFormat obter(Tipo tipo, Locale locale, int casasMinimas) {
+
+        Objects.requireNonNull(tipo, "tipo");
+        Objects.requireNonNull(locale, "locale");
+        Chave chave = new Chave(tipo, locale, casasMinimas);
+
+        Map<Chave, NumberFormat> lru = porThread.get();
+        NumberFormat nf = lru.get(chave);
+        if (nf != null) {
+            acertos.increment();
+            return nf;
+        }
+
+        // falta na thread  clone do prototipo eh bem mais barato que getXInstance
+        faltas.increment();
+        nf = (NumberFormat) prototipos.computeIfAbsent(chave, this::criar).clone();
+        lru.put(chave, nf);
+        return nf;
+
+    }
+
+    public Estatisticas estatisticas() {
+        return new Estatisticas(acertos.sum(), faltas.sum(), prototiposCriados.sum(), despejos.sum());
+    }
+
+    // esvazia apenas a copia da thread atual  prototipos continuam valendo
+    public void limparThreadAtual() {
+        porThread.remove();
+    }
+
+    private NumberFormat criar(Chave c) {
+        prototiposCriados.increment();
+        NumberFormat nf = switch (c.tipo()) {
+            case NUMERO -> NumberFormat.getNumberInstance(c.locale());
+            case MOEDA -> NumberFormat.getCurrencyInstance(c.locale());
+            case PORCENTAGEM -> NumberFormat.getPercentInstance(c.locale());
+        };
+        if (c.casas() >= 0) nf.setMinimumFractionDigits(c.casas());
+        return nf;
+    }
+
+    private Map<Chave, NumberFormat> novoLru() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, NumberFormat> maisAntigo) {
+                boolean remover = size() > capacidadePorThread;
+                if (remover) despejos.increment();
+                return remover;
+            }
+        };
+    }
+
+}
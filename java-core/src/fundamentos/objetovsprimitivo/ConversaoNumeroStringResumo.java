@@ -21,7 +21,7 @@ import java.util.OptionalInt;
  * 4) Locale com NumberFormat e DecimalFormat
  * 5) Dinheiro com BigDecimal e impressão segura
  * 6) Porcentagens e notação científica
- * 7) Helpers tryParse com Optional
+ * 7) Helpers tryParse com Optional  e ParserNumerico sem alocacao para ingestao
  * 8) Armadilhas comuns e boas práticas
  */
 public class ConversaoNumeroStringResumo {
@@ -131,8 +131,9 @@ public class ConversaoNumeroStringResumo {
 
         double valor = 1234.56;
 
-        NumberFormat us = NumberFormat.getNumberInstance(Locale.US);
-        NumberFormat br = NumberFormat.getNumberInstance(new Locale("pt", "BR"));
+        // instancias por thread vindas do cache  getNumberInstance a cada uso eh caro
+        NumberFormat us = CacheDeFormatadores.padrao().numero(Locale.US);
+        NumberFormat br = CacheDeFormatadores.padrao().numero(Locale.of("pt", "BR"));
 
         String usTxt = us.format(valor);
         String brTxt = br.format(valor);
@@ -151,7 +152,7 @@ public class ConversaoNumeroStringResumo {
         }
 
         // DecimalFormat com padrao customizado
-        DecimalFormatSymbols brSymbols = new DecimalFormatSymbols(new Locale("pt", "BR"));
+        DecimalFormatSymbols brSymbols = new DecimalFormatSymbols(Locale.of("pt", "BR"));
         brSymbols.setDecimalSeparator(',');
         brSymbols.setGroupingSeparator('.');
         DecimalFormat df = new DecimalFormat("#,##0.00", brSymbols);
@@ -174,10 +175,10 @@ public class ConversaoNumeroStringResumo {
         System.out.println("soma precisa  " + total.toPlainString());
 
         // moeda com NumberFormat
-        NumberFormat brMoeda = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
+        NumberFormat brMoeda = CacheDeFormatadores.padrao().moeda(Locale.of("pt", "BR"));
         System.out.println("moeda BR  " + brMoeda.format(total));
 
-        NumberFormat usMoeda = NumberFormat.getCurrencyInstance(Locale.US);
+        NumberFormat usMoeda = CacheDeFormatadores.padrao().moeda(Locale.US);
         System.out.println("moeda US  " + usMoeda.format(total));
 
     }
@@ -189,12 +190,11 @@ public class ConversaoNumeroStringResumo {
 
         double taxa = 0.1575;
 
-        NumberFormat pctBR = NumberFormat.getPercentInstance(new Locale("pt", "BR"));
-        pctBR.setMinimumFractionDigits(2);
+        // casas entram na chave do cache  nunca altere um formatador compartilhado
+        NumberFormat pctBR = CacheDeFormatadores.padrao().porcentagem(Locale.of("pt", "BR"), 2);
         String t1 = pctBR.format(taxa); // 15,75%
 
-        NumberFormat pctUS = NumberFormat.getPercentInstance(Locale.US);
-        pctUS.setMinimumFractionDigits(1);
+        NumberFormat pctUS = CacheDeFormatadores.padrao().porcentagem(Locale.US, 1);
         String t2 = pctUS.format(taxa); // 15.8%
 
         System.out.println("porcentagem BR  " + t1);
@@ -213,7 +213,19 @@ public class ConversaoNumeroStringResumo {
         System.out.println("tryParseInt 123  " + tryParseInt("123").orElse(-1));
         System.out.println("tryParseInt 12a  " + tryParseInt("12a").orElse(-1));
         System.out.println("tryParseDouble 3.14  " + tryParseDouble("3.14").orElse(-1.0));
-        System.out.println("tryParseLocale BR 1.234,56  " + tryParseLocale("1.234,56", new Locale("pt", "BR")).orElse(-1.0));
+        System.out.println("tryParseLocale BR 1.234,56  " + tryParseLocale("1.234,56", Locale.of("pt", "BR")).orElse(-1.0));
+
+        // hot path  sem Optional  sem trim  sem excecao  resultado reutilizavel
+        ParserNumerico.Resultado r = new ParserNumerico.Resultado();
+        String campos = "id=42;preco= 19,90 ;qtd=x";
+        ParserNumerico.parseInt(campos, 3, 2, r);
+        System.out.println("ParserNumerico int fatia 42  " + r);
+        ParserNumerico.parseDouble(campos, 12, 7, r);
+        System.out.println("ParserNumerico double fatia 19,90  " + r);
+        ParserNumerico.parseInt(campos, 24, 1, r);
+        System.out.println("ParserNumerico int fatia x  " + r);
+
+        System.out.println("cache de formatadores  " + CacheDeFormatadores.padrao().estatisticas());
 
     }
 
@@ -258,7 +270,7 @@ public class ConversaoNumeroStringResumo {
     static Optional<Double> tryParseLocale(String s, Locale locale) {
 
         try {
-            NumberFormat nf = NumberFormat.getNumberInstance(locale);
+            NumberFormat nf = CacheDeFormatadores.padrao().numero(locale);
             return Optional.of(nf.parse(s.trim()).doubleValue());
         } catch (ParseException e) {
             return Optional.empty();
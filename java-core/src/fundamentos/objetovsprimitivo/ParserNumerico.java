@@ -0,0 +1,347 @@
+package fundamentos.objetovsprimitivo;
+
+import java.util.Objects;
+
+/**
+ * ParserNumerico.java
+ *
+ * Parse de int  long e double sem alocacao e sem excecoes
+ * versao de ingestao dos helpers tryParse de ConversaoNumeroStringResumo.
+ *
+ * Conteudo
+ * 1) Entrada  CharSequence com offset e tamanho  ou fatia ASCII de byte[]
+ * 2) Saida  valor primitivo e status num Resultado reutilizavel  nada de Optional
+ * 3) Mesmas regras dos helpers  espacos nas pontas ignorados como em trim
+ *    sinal opcional  decimal aceita ponto ou virgula como em replace(',', '.')
+ * 4) Double  caminho exato de Clinger para mantissa ate 2^53 e expoente ate 22
+ *    fora disso cai no Double.parseDouble  unico ponto que aloca  raro em dados reais
+ *
+ * Diferencas em relacao a Double.parseDouble
+ * - NaN  Infinity  hexadecimal e sufixos f/d sao INVALIDO  campos de ingestao sao decimais
+ *
+ * Uso
+ *  ParserNumerico.Resultado r = new ParserNumerico.Resultado();   // um por thread
+ *  if (ParserNumerico.parseInt(linha, ini, len, r)) total += r.comoInt();
+ */
+public final class ParserNumerico {
+
+    public static final int OK = 0;
+    public static final int VAZIO = 1;
+    public static final int INVALIDO = 2;
+    public static final int ESTOURO = 3;
+
+    // potencias de 10 representaveis exatamente em double
+    private static final double[] POT10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private static final long MAX_MANTISSA_EXATA = 1L << 53;
+
+    private ParserNumerico() {
+    }
+
+    /* 1) RESULTADO REUTILIZAVEL */
+
+    // mutavel de proposito  nao compartilhe entre threads
+    public static final class Resultado {
+
+        private int status = VAZIO;
+        private long inteiro;
+        private double real;
+
+        public int status() { return status; }
+        public boolean ok() { return status == OK; }
+        public int comoInt() { return (int) inteiro; }
+        public long comoLong() { return inteiro; }
+        public double comoDouble() { return real; }
+
+        boolean falha(int s) {
+            status = s;
+            inteiro = 0;
+            real = 0;
+            return false;
+        }
+
+        boolean inteiro(long v) {
+            status = OK;
+            inteiro = v;
+            real = v;
+            return true;
+        }
+
+        boolean real(double v) {
+            status = OK;
+            inteiro = 0;
+            real = v;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return switch (status) {
+                case OK -> "OK  " + inteiro + "  " + real;
+                case VAZIO -> "VAZIO";
+                case INVALIDO -> "INVALIDO";
+                default -> "ESTOURO";
+            };
+        }
+
+    }
+
+    /* 2) INTEIROS */
+
+    public static boolean parseInt(CharSequence s, int ini, int len, Resultado r) {
+        if (!parseLong(s, ini, len, r)) return false;
+        long v = r.comoLong();
+        return v == (int) v || r.falha(ESTOURO);
+    }
+
+    public static boolean parseInt(byte[] b, int ini, int len, Resultado r) {
+        if (!parseLong(b, ini, len, r)) return false;
+        long v = r.comoLong();
+        return v == (int) v || r.falha(ESTOURO);
+    }
+
+    public static boolean parseLong(CharSequence s, int ini, int len, Resultado r) {
+
+        Objects.checkFromIndexSize(ini, len, s.length());
+        int i = ini, fim = ini + len;
+        while (i < fim && s.charAt(i) <= ' ') i++;
+        while (fim > i && s.charAt(fim - 1) <= ' ') fim--;
+        if (i == fim) return r.falha(VAZIO);
+
+        boolean negativo = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            if (++i == fim) return r.falha(INVALIDO);
+        }
+
+        // acumula negativo como Long.parseLong  cobre Long.MIN_VALUE sem estourar
+        long limite = negativo ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limite / 10;
+        long acc = 0;
+        for (; i < fim; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return r.falha(INVALIDO);
+            if (acc < multMin) return estouroOuInvalido(s, i + 1, fim, r);
+            acc *= 10;
+            if (acc < limite + d) return estouroOuInvalido(s, i + 1, fim, r);
+            acc -= d;
+        }
+        return r.inteiro(negativo ? acc : -acc);
+
+    }
+
+    public static boolean parseLong(byte[] b, int ini, int len, Resultado r) {
+
+        Objects.checkFromIndexSize(ini, len, b.length);
+        int i = ini, fim = ini + len;
+        while (i < fim && (b[i] & 0xFF) <= ' ') i++;
+        while (fim > i && (b[fim - 1] & 0xFF) <= ' ') fim--;
+        if (i == fim) return r.falha(VAZIO);
+
+        boolean negativo = false;
+        byte c = b[i];
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            if (++i == fim) return r.falha(INVALIDO);
+        }
+
+        long limite = negativo ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limite / 10;
+        long acc = 0;
+        for (; i < fim; i++) {
+            int d = b[i] - '0';
+            if (d < 0 || d > 9) return r.falha(INVALIDO);
+            if (acc < multMin) return estouroOuInvalido(b, i + 1, fim, r);
+            acc *= 10;
+            if (acc < limite + d) return estouroOuInvalido(b, i + 1, fim, r);
+            acc -= d;
+        }
+        return r.inteiro(negativo ? acc : -acc);
+
+    }
+
+    // "99999999999999999999x" eh INVALIDO  nao ESTOURO  o resto precisa ser so digitos
+    private static boolean estouroOuInvalido(CharSequence s, int i, int fim, Resultado r) {
+        for (; i < fim; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return r.falha(INVALIDO);
+        }
+        return r.falha(ESTOURO);
+    }
+
+    private static boolean estouroOuInvalido(byte[] b, int i, int fim, Resultado r) {
+        for (; i < fim; i++) {
+            if (b[i] < '0' || b[i] > '9') return r.falha(INVALIDO);
+        }
+        return r.falha(ESTOURO);
+    }
+
+    /* 3) DOUBLE */
+
+    public static boolean parseDouble(CharSequence s, int ini, int len, Resultado r) {
+
+        Objects.checkFromIndexSize(ini, len, s.length());
+        int i = ini, fim = ini + len;
+        while (i < fim && s.charAt(i) <= ' ') i++;
+        while (fim > i && s.charAt(fim - 1) <= ' ') fim--;
+        if (i == fim) return r.falha(VAZIO);
+        int inicioTexto = i;
+
+        boolean negativo = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digitos = 0;          // digitos significativos guardados na mantissa
+        int expAjuste = 0;        // casas decimais consumidas ou digitos descartados
+        boolean descartouNaoZero = false;
+        boolean algumDigito = false;
+        boolean viuSeparador = false;
+
+        for (; i < fim; i++) {
+            c = s.charAt(i);
+            int d = c - '0';
+            if (d >= 0 && d <= 9) {
+                algumDigito = true;
+                if (digitos < 18) {
+                    if (mantissa != 0 || d != 0) {
+                        mantissa = mantissa * 10 + d;
+                        digitos++;
+                    }
+                    if (viuSeparador) expAjuste--;
+                } else {
+                    if (d != 0) descartouNaoZero = true;
+                    if (!viuSeparador) expAjuste++;
+                }
+            } else if ((c == '.' || c == ',') && !viuSeparador) {
+                viuSeparador = true;
+            } else {
+                break;
+            }
+        }
+        if (!algumDigito) return r.falha(INVALIDO);
+
+        int expoente = 0;
+        if (i < fim) {
+            c = s.charAt(i);
+            if (c != 'e' && c != 'E') return r.falha(INVALIDO);
+            if (++i == fim) return r.falha(INVALIDO);
+            boolean expNegativo = false;
+            c = s.charAt(i);
+            if (c == '-' || c == '+') {
+                expNegativo = c == '-';
+                if (++i == fim) return r.falha(INVALIDO);
+            }
+            for (; i < fim; i++) {
+                int d = s.charAt(i) - '0';
+                if (d < 0 || d > 9) return r.falha(INVALIDO);
+                if (expoente < 100_000) expoente = expoente * 10 + d;
+            }
+            if (expNegativo) expoente = -expoente;
+        }
+
+        if (!descartouNaoZero) {
+            double v = exato(mantissa, expoente + expAjuste);
+            if (!Double.isNaN(v)) return r.real(negativo ? -v : v);
+        }
+        return lento(s.subSequence(inicioTexto, fim).toString(), r);
+
+    }
+
+    public static boolean parseDouble(byte[] b, int ini, int len, Resultado r) {
+
+        Objects.checkFromIndexSize(ini, len, b.length);
+        int i = ini, fim = ini + len;
+        while (i < fim && (b[i] & 0xFF) <= ' ') i++;
+        while (fim > i && (b[fim - 1] & 0xFF) <= ' ') fim--;
+        if (i == fim) return r.falha(VAZIO);
+        int inicioTexto = i;
+
+        boolean negativo = false;
+        byte c = b[i];
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digitos = 0;
+        int expAjuste = 0;
+        boolean descartouNaoZero = false;
+        boolean algumDigito = false;
+        boolean viuSeparador = false;
+
+        for (; i < fim; i++) {
+            c = b[i];
+            int d = c - '0';
+            if (d >= 0 && d <= 9) {
+                algumDigito = true;
+                if (digitos < 18) {
+                    if (mantissa != 0 || d != 0) {
+                        mantissa = mantissa * 10 + d;
+                        digitos++;
+                    }
+                    if (viuSeparador) expAjuste--;
+                } else {
+                    if (d != 0) descartouNaoZero = true;
+                    if (!viuSeparador) expAjuste++;
+                }
+            } else if ((c == '.' || c == ',') && !viuSeparador) {
+                viuSeparador = true;
+            } else {
+                break;
+            }
+        }
+        if (!algumDigito) return r.falha(INVALIDO);
+
+        int expoente = 0;
+        if (i < fim) {
+            c = b[i];
+            if (c != 'e' && c != 'E') return r.falha(INVALIDO);
+            if (++i == fim) return r.falha(INVALIDO);
+            boolean expNegativo = false;
+            c = b[i];
+            if (c == '-' || c == '+') {
+                expNegativo = c == '-';
+                if (++i == fim) return r.falha(INVALIDO);
+            }
+            for (; i < fim; i++) {
+                int d = b[i] - '0';
+                if (d < 0 || d > 9) return r.falha(INVALIDO);
+                if (expoente < 100_000) expoente = expoente * 10 + d;
+            }
+            if (expNegativo) expoente = -expoente;
+        }
+
+        if (!descartouNaoZero) {
+            double v = exato(mantissa, expoente + expAjuste);
+            if (!Double.isNaN(v)) return r.real(negativo ? -v : v);
+        }
+        return lento(new String(b, inicioTexto, fim - inicioTexto, java.nio.charset.StandardCharsets.ISO_8859_1), r);
+
+    }
+
+    // Clinger  mantissa e 10^|exp| exatos em double  uma unica operacao arredonda certo
+    // NaN sinaliza que o caminho exato nao se aplica
+    private static double exato(long mantissa, int exp10) {
+        if (mantissa == 0) return 0.0;
+        if (mantissa > MAX_MANTISSA_EXATA) return Double.NaN;
+        if (exp10 == 0) return mantissa;
+        if (exp10 > 0 && exp10 <= 22) return mantissa * POT10[exp10];
+        if (exp10 < 0 && exp10 >= -22) return mantissa / POT10[-exp10];
+        return Double.NaN;
+    }
+
+    // texto ja validado pelo laco acima  so falta arredondamento correto fora da faixa exata
+    private static boolean lento(String texto, Resultado r) {
+        double v = Double.parseDouble(texto.replace(',', '.'));
+        return r.real(v);
+    }
+
+}
@@ -10,7 +10,7 @@ package fundamentos.operadores;
  * 4) Precedencia e parenteses
  * 5) Leis de De Morgan
  * 6) Padroes uteis  guard clauses  validacoes
- * 7) Predicados e Streams  anyMatch  allMatch  noneMatch
+ * 7) Predicados e Streams  anyMatch  allMatch  noneMatch  e PredicadoDeColuna sobre int[]
  * 8) Pitfalls comuns
  */
 import java.util.List;
@@ -223,6 +223,14 @@ public class OperadoresLogicosResumo {
         System.out.println("algum par e maior que tres  " + nums.stream().anyMatch(parEGrande));
         System.out.println("algum impar ou maior que tres  " + nums.stream().anyMatch(imparOuGrande));
 
+        // Mesma composicao sobre int[]  sem boxing  um long de 64 bits por bloco de valores
+        int[] coluna = {1, 2, 3, 4, 5, 6};
+        PredicadoDeColuna parC = PredicadoDeColuna.multiploDe(2);
+        PredicadoDeColuna maiorQueTresC = PredicadoDeColuna.maiorQue(3);
+        System.out.println("coluna  algum par e maior que tres  " + parC.and(maiorQueTresC).algum(coluna));
+        System.out.println("coluna  todos maiores que zero  " + PredicadoDeColuna.maiorQue(0).todos(coluna));
+        System.out.println("coluna  posicoes impar ou maior que tres  " + parC.negate().or(maiorQueTresC).selecionarBitSet(coluna));
+
     }
 
     // 8) Armadilhas comuns
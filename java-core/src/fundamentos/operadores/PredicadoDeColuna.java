@@ -0,0 +1,326 @@
+package fundamentos.operadores;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * PredicadoDeColuna.java
+ *
+ * IntPredicate composto com and  or  negate que avalia uma coluna int[] em blocos de 64 valores.
+ * Predicate<Integer> de OperadoresLogicosResumo.predicadosEStreams empacota cada elemento e faz uma
+ * chamada virtual por predicado por elemento  aqui cada no da expressao devolve um long com um bit por valor.
+ *
+ * Conteudo
+ * 1) Folhas sem desvio  maiorQue  menorQue  entre  igualA  multiploDe (potencia de dois vira mascara de bits)
+ *    o bit vem do sinal de uma subtracao em long  sem if por elemento  sem estouro de int
+ *    de(IntPredicate) aceita qualquer regra  essa folha chama o predicado por elemento
+ * 2) Composicao  and  or  negate viram & | ~ sobre as mascaras  uma chamada virtual por no por bloco
+ *    cada no recebe os bits ainda abertos  and passa ao lado direito so os bits que a esquerda aceitou
+ *    or so os que ela recusou  mesmo curto-circuito de test(int) por elemento
+ *    folhas sem desvio avaliam o bloco inteiro  de(..) so chama a regra nas posicoes abertas
+ *    ex.: igualA(0).negate().and(x -> 100 / x > 3) nunca divide por zero  nem em contar
+ * 3) Saida  selecionar (long[] com um bit por posicao)  selecionarBitSet  contar
+ * 4) algum  todos  nenhum  param no primeiro bloco que decide  como anyMatch  allMatch  noneMatch
+ *
+ * Regras
+ * - test(int) continua valendo  o mesmo objeto serve para IntStream.filter
+ * - imutavel  pode ser compartilhado entre threads
+ * - Vector API (jdk.incubator.vector) fica de fora  pede --add-modules em compilacao e execucao
+ */
+public abstract class PredicadoDeColuna implements IntPredicate {
+
+    static final int BLOCO = 64;
+
+    PredicadoDeColuna() {
+    }
+
+    // bits 0..n-1 dos valores v[base] .. v[base + n - 1]  so as posicoes de 'abertos' valem  as demais saem zero
+    // regra de fora (de(..)) nunca roda numa posicao fechada  como no && e || de test(int)
+    abstract long mascara(int[] v, int base, int n, long abertos);
+
+    final long mascara(int[] v, int base, int n) { return mascara(v, base, n, cheia(n)); }
+
+    /* 1) FOLHAS */
+
+    public static PredicadoDeColuna maiorQue(int limite) { return new MaiorQue(limite); }
+
+    public static PredicadoDeColuna menorQue(int limite) { return new MenorQue(limite); }
+
+    // inclusivo nas duas pontas
+    public static PredicadoDeColuna entre(int minimo, int maximo) {
+        if (minimo > maximo) throw new IllegalArgumentException("faixa vazia  " + minimo + " > " + maximo);
+        return new Entre(minimo, maximo);
+    }
+
+    public static PredicadoDeColuna igualA(int valor) { return new Entre(valor, valor); }
+
+    public static PredicadoDeColuna multiploDe(int divisor) {
+        if (divisor == 0) throw new IllegalArgumentException("divisor zero");
+        long modulo = Math.abs((long) divisor);
+        // potencia de dois  os bits baixos decidem  sem divisao por valor
+        if (Long.bitCount(modulo) == 1) return new BitsBaixosZero((int) (modulo - 1));
+        return new MultiploDe(divisor);
+    }
+
+    public static PredicadoDeColuna de(IntPredicate regra) {
+        if (regra instanceof PredicadoDeColuna p) return p;
+        return new Generico(Objects.requireNonNull(regra, "regra"));
+    }
+
+    /* 2) COMPOSICAO */
+
+    @Override
+    public PredicadoDeColuna and(IntPredicate outro) { return new E(this, de(outro)); }
+
+    @Override
+    public PredicadoDeColuna or(IntPredicate outro) { return new Ou(this, de(outro)); }
+
+    @Override
+    public PredicadoDeColuna negate() { return new Nao(this); }
+
+    /* 3) SELECAO */
+
+    public long[] selecionar(int[] coluna) { return selecionar(coluna, coluna.length); }
+
+    public long[] selecionar(int[] coluna, int tamanho) {
+        Objects.checkFromToIndex(0, tamanho, coluna.length);
+        long[] selecao = new long[(tamanho + BLOCO - 1) / BLOCO];
+        for (int b = 0; b < selecao.length; b++) {
+            int base = b * BLOCO;
+            selecao[b] = mascara(coluna, base, Math.min(BLOCO, tamanho - base));
+        }
+        return selecao;
+    }
+
+    public BitSet selecionarBitSet(int[] coluna) { return BitSet.valueOf(selecionar(coluna)); }
+
+    public int contar(int[] coluna) { return contar(coluna, coluna.length); }
+
+    public int contar(int[] coluna, int tamanho) {
+        Objects.checkFromToIndex(0, tamanho, coluna.length);
+        int total = 0;
+        for (int base = 0; base < tamanho; base += BLOCO) {
+            total += Long.bitCount(mascara(coluna, base, Math.min(BLOCO, tamanho - base)));
+        }
+        return total;
+    }
+
+    /* 4) QUANTIFICADORES */
+
+    public boolean algum(int[] coluna) { return algum(coluna, coluna.length); }
+
+    public boolean algum(int[] coluna, int tamanho) {
+        Objects.checkFromToIndex(0, tamanho, coluna.length);
+        for (int base = 0; base < tamanho; base += BLOCO) {
+            if (mascara(coluna, base, Math.min(BLOCO, tamanho - base)) != 0) return true;
+        }
+        return false;
+    }
+
+    public boolean todos(int[] coluna) { return todos(coluna, coluna.length); }
+
+    public boolean todos(int[] coluna, int tamanho) {
+        Objects.checkFromToIndex(0, tamanho, coluna.length);
+        for (int base = 0; base < tamanho; base += BLOCO) {
+            int n = Math.min(BLOCO, tamanho - base);
+            if (mascara(coluna, base, n) != cheia(n)) return false;
+        }
+        return true;
+    }
+
+    public boolean nenhum(int[] coluna) { return !algum(coluna); }
+
+    public boolean nenhum(int[] coluna, int tamanho) { return !algum(coluna, tamanho); }
+
+    /* APOIO */
+
+    static long cheia(int n) { return n == BLOCO ? -1L : (1L << n) - 1; }
+
+    // 1 quando a < b  sinal da diferenca em long  sem desvio
+    private static long menor(long a, long b) { return (a - b) >>> 63; }
+
+    /* NOS */
+
+    private static final class MaiorQue extends PredicadoDeColuna {
+
+        private final int limite;
+
+        MaiorQue(int limite) { this.limite = limite; }
+
+        @Override
+        public boolean test(int x) { return x > limite; }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            for (int j = 0; j < n; j++) bits |= menor(limite, v[base + j]) << j;
+            return bits & abertos;
+        }
+
+    }
+
+    private static final class MenorQue extends PredicadoDeColuna {
+
+        private final int limite;
+
+        MenorQue(int limite) { this.limite = limite; }
+
+        @Override
+        public boolean test(int x) { return x < limite; }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            for (int j = 0; j < n; j++) bits |= menor(v[base + j], limite) << j;
+            return bits & abertos;
+        }
+
+    }
+
+    // minimo <= x <= maximo  vira uma comparacao sem sinal  x - minimo <= largura
+    private static final class Entre extends PredicadoDeColuna {
+
+        private final int minimo;
+        private final long largura;
+
+        Entre(int minimo, int maximo) {
+            this.minimo = minimo;
+            this.largura = (long) maximo - minimo;
+        }
+
+        @Override
+        public boolean test(int x) { return (long) x - minimo >= 0 && (long) x - minimo <= largura; }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            for (int j = 0; j < n; j++) {
+                long d = (v[base + j] - minimo) & 0xFFFF_FFFFL;     // distancia sem sinal ao minimo
+                bits |= menor(largura, d) << j;                  // 1 quando fora da faixa
+            }
+            return ~bits & abertos;
+        }
+
+    }
+
+    private static final class MultiploDe extends PredicadoDeColuna {
+
+        private final int divisor;
+
+        MultiploDe(int divisor) { this.divisor = divisor; }
+
+        @Override
+        public boolean test(int x) { return x % divisor == 0; }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            for (int j = 0; j < n; j++) bits |= menor((v[base + j] % divisor) & 0xFFFF_FFFFL, 1) << j;
+            return bits & abertos;
+        }
+
+    }
+
+    private static final class BitsBaixosZero extends PredicadoDeColuna {
+
+        private final int baixos;
+
+        BitsBaixosZero(int baixos) { this.baixos = baixos; }
+
+        @Override
+        public boolean test(int x) { return (x & baixos) == 0; }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            for (int j = 0; j < n; j++) bits |= menor(v[base + j] & baixos, 1) << j;
+            return bits & abertos;
+        }
+
+    }
+
+    private static final class Generico extends PredicadoDeColuna {
+
+        private final IntPredicate regra;
+
+        Generico(IntPredicate regra) { this.regra = regra; }
+
+        @Override
+        public boolean test(int x) { return regra.test(x); }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long bits = 0;
+            if (abertos == cheia(n)) {
+                for (int j = 0; j < n; j++) bits |= (regra.test(v[base + j]) ? 1L : 0L) << j;
+                return bits;
+            }
+            // so as posicoes abertas  a regra pode nao valer fora delas
+            for (long a = abertos; a != 0; a &= a - 1) {
+                int j = Long.numberOfTrailingZeros(a);
+                bits |= (regra.test(v[base + j]) ? 1L : 0L) << j;
+            }
+            return bits;
+        }
+
+    }
+
+    private static final class E extends PredicadoDeColuna {
+
+        private final PredicadoDeColuna esquerda;
+        private final PredicadoDeColuna direita;
+
+        E(PredicadoDeColuna esquerda, PredicadoDeColuna direita) {
+            this.esquerda = esquerda;
+            this.direita = direita;
+        }
+
+        @Override
+        public boolean test(int x) { return esquerda.test(x) && direita.test(x); }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long m = esquerda.mascara(v, base, n, abertos);
+            return m == 0 ? 0 : direita.mascara(v, base, n, m);
+        }
+
+    }
+
+    private static final class Ou extends PredicadoDeColuna {
+
+        private final PredicadoDeColuna esquerda;
+        private final PredicadoDeColuna direita;
+
+        Ou(PredicadoDeColuna esquerda, PredicadoDeColuna direita) {
+            this.esquerda = esquerda;
+            this.direita = direita;
+        }
+
+        @Override
+        public boolean test(int x) { return esquerda.test(x) || direita.test(x); }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) {
+            long m = esquerda.mascara(v, base, n, abertos);
+            long resto = abertos & ~m;
+            return resto == 0 ? m : m | direita.mascara(v, base, n, resto);
+        }
+
+    }
+
+    private static final class Nao extends PredicadoDeColuna {
+
+        private final PredicadoDeColuna interno;
+
+        Nao(PredicadoDeColuna interno) { this.interno = interno; }
+
+        @Override
+        public boolean test(int x) { return !interno.test(x); }
+
+        @Override
+        long mascara(int[] v, int base, int n, long abertos) { return ~interno.mascara(v, base, n, abertos) & abertos; }
+
+    }
+
+}
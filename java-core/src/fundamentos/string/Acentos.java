@@ -0,0 +1,97 @@
+package fundamentos.string;
+
+import java.text.Normalizer;
+
+/**
+ * Acentos.java
+ *
+ * Remocao de diacriticos para chaves de busca  mesmo resultado de
+ * Normalizer.normalize(s  NFD).replaceAll("\\p{M}+", "")  sem as duas Strings e a regex por chamada.
+ *
+ * Conteudo
+ * 1) ASCII  devolve a propria String  nenhuma alocacao
+ * 2) Latin-1 e Latin Extended-A (U+0080 a U+017F)  tabela de um char por code point
+ *    montada na carga da classe com o proprio Normalizer  identica a referencia por construcao
+ * 3) Marcas combinantes U+0300 a U+036F  texto que ja chega decomposto  simplesmente saem
+ * 4) Qualquer outro code point  a String inteira vai para o caminho do Normalizer  raro em nomes
+ *
+ * Por que o atalho eh exato
+ * - NFD de uma concatenacao so difere da concatenacao dos NFD pela reordenacao de marcas
+ * - nos intervalos 1 a 3 toda marca produzida eh removida  a ordem delas nao importa
+ * - fora deles (hangul  marcas de outros blocos  surrogates) nao ha essa garantia  dai o desvio
+ */
+public final class Acentos {
+
+    static final int INICIO_TABELA = 0x80;
+    static final int FIM_TABELA = 0x17F;
+    static final char SEM_ATALHO = '\uFFFF';      // nao eh caractere  nunca sai do Normalizer
+
+    private static final char[] TABELA = new char[FIM_TABELA - INICIO_TABELA + 1];
+
+    static {
+        for (int c = INICIO_TABELA; c <= FIM_TABELA; c++) {
+            String dobrado = referencia(String.valueOf((char) c));
+            TABELA[c - INICIO_TABELA] = dobrado.length() == 1 ? dobrado.charAt(0) : SEM_ATALHO;
+        }
+    }
+
+    private Acentos() {
+    }
+
+    public static String remover(String s) {
+
+        int n = s.length();
+        int i = 0;
+        while (i < n && s.charAt(i) < INICIO_TABELA) i++;
+        if (i == n) return s;
+
+        char[] saida = new char[n];
+        s.getChars(0, i, saida, 0);
+        int k = dobrar(s, i, saida, i);
+        return k < 0 ? referencia(s) : new String(saida, 0, k);
+
+    }
+
+    // acrescenta o texto sem acentos a 'destino'  sem String intermediaria no caminho rapido
+    public static StringBuilder removerEm(CharSequence s, StringBuilder destino) {
+        int inicio = destino.length();
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            int trecho = i;
+            while (i < n && s.charAt(i) < INICIO_TABELA) i++;
+            if (i > trecho) destino.append(s, trecho, i);      // trecho ASCII de uma vez
+            if (i == n) break;
+            char c = s.charAt(i++);
+            if (c <= FIM_TABELA && TABELA[c - INICIO_TABELA] != SEM_ATALHO) destino.append(TABELA[c - INICIO_TABELA]);
+            else if (c < 0x300 || c > 0x36F) {
+                destino.setLength(inicio);
+                return destino.append(referencia(s.toString()));
+            }
+        }
+        return destino;
+    }
+
+    // o que TipoString e StringIgualdadeResumo faziam  referencia para o caminho lento e para os testes
+    static String referencia(String s) {
+        return CacheDePadroes.padrao().obter("\\p{M}+").matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    // -1 quando aparece code point fora do atalho
+    private static int dobrar(String s, int i, char[] saida, int k) {
+        for (int n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < INICIO_TABELA) {
+                saida[k++] = c;
+            } else if (c <= FIM_TABELA) {
+                char d = TABELA[c - INICIO_TABELA];
+                if (d == SEM_ATALHO) return -1;
+                saida[k++] = d;
+            } else if (c < 0x300 || c > 0x36F) {
+                return -1;
+            }
+        }
+        return k;
+    }
+
+}
@@ -0,0 +1,98 @@
+package fundamentos.string;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * CacheDePadroes.java
+ *
+ * Cache LRU de Pattern compilado  String.replaceAll  matches e split recompilam a regex a cada chamada.
+ *
+ * Conteudo
+ * 1) Chave  texto da regex mais flags  valor  o Pattern compilado uma vez
+ * 2) Um unico LRU compartilhado  Pattern eh imutavel e thread-safe  diferente do NumberFormat de CacheDeFormatadores
+ *    LinkedHashMap em ordem de acesso sob uma trava curta  a compilacao acontece fora da trava
+ * 3) Limite  no maximo 'capacidade' padroes  o menos usado recentemente sai
+ * 4) Estatisticas  acertos  faltas (cada falta eh uma compilacao)  despejos em LongAdder
+ *
+ * Regras
+ * - o Matcher de pattern.matcher(..) nao eh thread-safe  crie um por uso como sempre
+ * - regex montada a partir de dado do usuario enche o cache de entradas de uso unico  use Pattern.quote ou nao use cache
+ */
+public final class CacheDePadroes {
+
+    record Chave(String regex, int flags) { }
+
+    public record Estatisticas(long acertos, long faltas, long despejos, int tamanho, int capacidade) {
+        public double taxaDeAcerto() {
+            long total = acertos + faltas;
+            return total == 0 ? 0 : (double) acertos / total;
+        }
+    }
+
+    private static final CacheDePadroes PADRAO = new CacheDePadroes(256);
+
+    private final int capacidade;
+    private final LinkedHashMap<Chave, Pattern> lru;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder despejos = new LongAdder();
+
+    public CacheDePadroes(int capacidade) {
+        if (capacidade <= 0) throw new IllegalArgumentException("capacidade invalida");
+        this.capacidade = capacidade;
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, Pattern> maisAntigo) {
+                boolean remover = size() > CacheDePadroes.this.capacidade;
+                if (remover) despejos.increment();
+                return remover;
+            }
+        };
+    }
+
+    public static CacheDePadroes padrao() { return PADRAO; }
+
+    public Pattern obter(String regex) { return obter(regex, 0); }
+
+    public Pattern obter(String regex, int flags) {
+
+        Chave chave = new Chave(Objects.requireNonNull(regex, "regex"), flags);
+        Pattern p;
+        synchronized (lru) {
+            p = lru.get(chave);
+        }
+        if (p != null) {
+            acertos.increment();
+            return p;
+        }
+
+        // falta  compila sem segurar a trava  duas threads podem compilar a mesma regex  fica a primeira
+        faltas.increment();
+        Pattern novo = Pattern.compile(regex, flags);
+        synchronized (lru) {
+            p = lru.putIfAbsent(chave, novo);
+        }
+        return p != null ? p : novo;
+
+    }
+
+    public Estatisticas estatisticas() {
+        int tamanho;
+        synchronized (lru) {
+            tamanho = lru.size();
+        }
+        return new Estatisticas(acertos.sum(), faltas.sum(), despejos.sum(), tamanho, capacidade);
+    }
+
+    public void limpar() {
+        synchronized (lru) {
+            lru.clear();
+        }
+    }
+
+}
@@ -116,6 +116,9 @@ public class StringIgualdadeResumo {
         String normB = Normalizer.normalize(b, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
         System.out.println("comparacao apos remover diacriticos                         " + normA.equals(normB));
 
+        // NFD + regex cria duas Strings por comparacao  Acentos faz o mesmo por tabela e devolve ASCII intacto
+        System.out.println("mesma comparacao com Acentos.remover                        " + Acentos.remover(a).equals(Acentos.remover(b)));
+
     }
 
     // 6) Null safety  evite NullPointerException com Objects.equals
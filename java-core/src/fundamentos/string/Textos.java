@@ -0,0 +1,136 @@
+package fundamentos.string;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Textos.java
+ *
+ * Operacoes de texto de TipoString e StringIgualdadeResumo sem recompilar regex a cada chamada.
+ *
+ * Conteudo
+ * 1) Regex geral  substituirTodos  casa  dividir  Pattern vindo de CacheDePadroes.padrao()
+ * 2) Atalhos sem regex para os casos comuns  lacos sobre char
+ *    manterDigitos(s  ",")   mesmo resultado de s.replaceAll("[^0-9,]", "")
+ *    dividir(s  ',')         mesmo resultado de s.split(",")  sem ArrayList intermediaria
+ *    pareceEmail(s)          mesmo resultado de s.matches("^[\\w.%-]+@[\\w.-]+\\.[A-Za-z]{2,}$")
+ * 3) dividir(s  regex) desvia sozinho para o atalho quando a regex eh um unico char literal
+ * 4) estatisticasDoCache  acertos  faltas e despejos do cache compartilhado
+ *
+ * Regras
+ * - atalhos devolvem a propria String quando nada muda  sem copia
+ * - pareceEmail valida FORMATO como a regex  nao garante que o endereco existe
+ */
+public final class Textos {
+
+    private static final String METACARACTERES = ".$|()[{^?*+\\";
+
+    private Textos() {
+    }
+
+    /* 1) REGEX COM CACHE */
+
+    public static String substituirTodos(CharSequence s, String regex, String troca) {
+        return CacheDePadroes.padrao().obter(regex).matcher(s).replaceAll(troca);
+    }
+
+    public static boolean casa(CharSequence s, String regex) {
+        return CacheDePadroes.padrao().obter(regex).matcher(s).matches();
+    }
+
+    // mesma semantica de String.split(regex)  vazios no fim sao descartados
+    public static String[] dividir(String s, String regex) {
+        if (regex.length() == 1 && METACARACTERES.indexOf(regex.charAt(0)) < 0) return dividir(s, regex.charAt(0));
+        return CacheDePadroes.padrao().obter(regex).split(s);
+    }
+
+    public static CacheDePadroes.Estatisticas estatisticasDoCache() {
+        return CacheDePadroes.padrao().estatisticas();
+    }
+
+    /* 2) ATALHOS */
+
+    // digitos ASCII e os chars de 'tambem'  o resto sai
+    public static String manterDigitos(String s, String tambem) {
+
+        int n = s.length();
+        int i = 0;
+        while (i < n && mantem(s.charAt(i), tambem)) i++;
+        if (i == n) return s;
+
+        char[] saida = new char[n - 1];
+        s.getChars(0, i, saida, 0);
+        int k = i;
+        for (i++; i < n; i++) {
+            char c = s.charAt(i);
+            if (mantem(c, tambem)) saida[k++] = c;
+        }
+        return new String(saida, 0, k);
+
+    }
+
+    public static String[] dividir(String s, char separador) {
+
+        int sep = s.indexOf(separador);                 // indexOf eh intrinseco
+        if (sep < 0) return new String[]{s};
+
+        String[] saida = new String[8];
+        int k = 0;
+        int ini = 0;
+        for (; sep >= 0; ini = sep + 1, sep = s.indexOf(separador, ini)) {
+            if (k == saida.length) saida = Arrays.copyOf(saida, k << 1);
+            saida[k++] = s.substring(ini, sep);
+        }
+        if (k == saida.length) saida = Arrays.copyOf(saida, k + 1);
+        saida[k++] = s.substring(ini);
+
+        // como split(regex, 0)  pedacos vazios no fim nao entram
+        while (k > 0 && saida[k - 1].isEmpty()) k--;
+        return k == saida.length ? saida : Arrays.copyOf(saida, k);
+
+    }
+
+    // local [\w.%-]+  @  dominio [\w.-]+  .  tld [A-Za-z]{2,}
+    // o dominio aceita '.'  entao o tld eh o que vem depois do ULTIMO ponto
+    public static boolean pareceEmail(CharSequence s) {
+
+        Objects.requireNonNull(s, "s");
+        int n = s.length();
+        int arroba = -1;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '@') {
+                arroba = i;
+                break;
+            }
+            if (!palavra(c) && c != '.' && c != '%' && c != '-') return false;
+        }
+        if (arroba < 1) return false;
+
+        int ultimoPonto = -1;
+        for (int i = arroba + 1; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '.') ultimoPonto = i;
+            else if (!palavra(c) && c != '-') return false;
+        }
+        if (ultimoPonto < arroba + 2 || n - ultimoPonto - 1 < 2) return false;
+        for (int i = ultimoPonto + 1; i < n; i++) {
+            char c = s.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) return false;
+        }
+        return true;
+
+    }
+
+    /* APOIO */
+
+    private static boolean mantem(char c, String tambem) {
+        return (c >= '0' && c <= '9') || tambem.indexOf(c) >= 0;
+    }
+
+    // \w sem UNICODE_CHARACTER_CLASS  [a-zA-Z_0-9]
+    private static boolean palavra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+}
@@ -1,5 +1,8 @@
 package fundamentos.tipos;
 
+import fundamentos.string.Acentos;
+import fundamentos.string.Textos;
+
 import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
 import java.util.Arrays;
@@ -150,6 +153,14 @@ public class TipoString {
         for (String n : nomes) sj.add(n.toUpperCase());
         System.out.println(sj.toString());
 
+        // Cada replaceAll/matches/split(regex) acima recompila o Pattern. Em laço quente:
+        // Textos guarda o Pattern num cache LRU e tem atalhos sem regex para os casos comuns.
+        System.out.println(Textos.manterDigitos(t, ","));                        // "1234,56" sem regex
+        System.out.println("email válido? " + Textos.pareceEmail(email));        // mesmo critério da regex
+        System.out.println(Arrays.toString(Textos.dividir(csv, ',')));
+        System.out.println(Textos.substituirTodos(t, "\\s+", "_"));             // regex qualquer, compilada uma vez
+        System.out.println("cache: " + Textos.estatisticasDoCache());
+
     }
 
     // 7 - Formatação: String.format / formatted / printf
@@ -195,6 +206,10 @@ public class TipoString {
         System.out.println("Original: " + acentuado);
         System.out.println("Sem acento: " + semAcento);
 
+        // Mesmo resultado sem as duas Strings e a regex: tabela para Latin-1/Latin Extended-A,
+        // ASCII devolvido intacto e Normalizer só para o resto (ver Acentos).
+        System.out.println("Acentos.remover: " + Acentos.remover(acentuado));
+
     }
 
     // 10 - Strings ↔ bytes (UTF-8)